@@ -0,0 +1,83 @@
+package com.doverunner.sample.tnp.client.codec;
+
+import com.doverunner.sample.tnp.client.body.JsonBodyPublisher;
+import com.doverunner.sample.tnp.job.BenchmarkJobs;
+import com.doverunner.sample.tnp.job.Job;
+import com.doverunner.sample.tnp.job.JobTemplate;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobSerializationBenchmark {
+
+    @Param({"3", "8"})
+    private int rungs;
+
+    @Param({"false", "true"})
+    private boolean bytecodeSerializers;
+
+    @Param({"false", "true"})
+    private boolean fragmentCaching;
+
+    private Job job;
+    private Job templatedJob;
+    private ObjectMapper mapper;
+    private ObjectWriter writer;
+    private ObjectWriter templateWriter;
+
+    @Setup
+    public void setup() {
+        job = BenchmarkJobs.job(rungs, 2);
+        TnpCodec codec = new TnpCodec.Builder()
+                .bytecodeSerializers(bytecodeSerializers)
+                .fragmentCaching(fragmentCaching)
+                .build();
+        mapper = codec.getMapper();
+        writer = codec.writerFor(Job.class);
+        templateWriter = codec.writerFor(JsonSerializable.class);
+        JobTemplate template = new JobTemplate.Builder()
+                .output(BenchmarkJobs.output(rungs, 2))
+                .mapper(mapper)
+                .build();
+        templatedJob = template.newJob("benchmark_job", "content_001", BenchmarkJobs.input(2));
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws IOException {
+        return mapper.writeValueAsBytes(job);
+    }
+
+    @Benchmark
+    public byte[] cachedWriter() throws IOException {
+        return writer.writeValueAsBytes(job);
+    }
+
+    @Benchmark
+    public JsonBodyPublisher bodyPublisher() throws IOException {
+        return JsonBodyPublisher.of(writer, job);
+    }
+
+    @Benchmark
+    public byte[] template() throws IOException {
+        return templateWriter.writeValueAsBytes(templatedJob.getTemplate().bodyOf(templatedJob));
+    }
+}
@@ -0,0 +1,86 @@
+package com.doverunner.sample.tnp.client.response;
+
+import com.doverunner.sample.tnp.client.codec.TnpCodec;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseParsingBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private byte[] jobListBody;
+    private byte[] jobDetailBody;
+    private JsonFactory factory;
+    private ObjectReader mapReader;
+
+    @Setup
+    public void setup() {
+        TnpCodec codec = new TnpCodec.Builder().build();
+        factory = codec.getMapper().getFactory();
+        mapReader = codec.readerFor(TnpCodec.MAP_TYPE);
+        jobDetailBody = jobJson(1).getBytes(StandardCharsets.UTF_8);
+
+        StringBuilder list = new StringBuilder("{\"data\":{\"page\":1,\"size\":")
+                .append(pageSize)
+                .append(",\"total_count\":4821,\"list\":[");
+        for (int i = 0; i < pageSize; i++) {
+            list.append(i == 0 ? "" : ",").append(jobJson(i));
+        }
+        jobListBody = list.append("]}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public JobListPage jobListStreaming() throws IOException {
+        try (JsonParser parser = factory.createParser(jobListBody)) {
+            parser.nextToken();
+            return JobListPage.read(parser);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> jobListAsMap() throws IOException {
+        return mapReader.readValue(jobListBody);
+    }
+
+    @Benchmark
+    public JobDetail jobDetailStreaming() throws IOException {
+        try (JsonParser parser = factory.createParser(jobDetailBody)) {
+            parser.nextToken();
+            return JobDetail.read(parser);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> jobDetailAsMap() throws IOException {
+        return mapReader.readValue(jobDetailBody);
+    }
+
+    private static String jobJson(int index) {
+        return "{\"job_id\":\"" + (1000000 + index) + "\",\"job_name\":\"job_" + index + "\","
+                + "\"content_id\":\"content_" + index + "\",\"status\":\"transcoding\",\"progress\":" + (index % 100)
+                + ",\"created_at\":\"2025-01-01T00:00:00Z\",\"updated_at\":\"2025-01-01T00:05:00Z\"}";
+    }
+}
@@ -0,0 +1,46 @@
+package com.doverunner.sample.tnp.constant.web;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiUrlBenchmark {
+
+    private final URI baseUri = URI.create("https://tnp.doverunner.com/");
+    private final String siteId = "DEMO";
+    private final String jobId = "1234567";
+
+    @Benchmark
+    public String createJobUrl() {
+        return ApiUrl.CREATE_JOB.getUrl(siteId);
+    }
+
+    @Benchmark
+    public String jobDetailUrl() {
+        return ApiUrl.GET_JOB_DETAIL.getUrl(siteId, jobId);
+    }
+
+    @Benchmark
+    public URI createJobUri() {
+        return ApiUrl.CREATE_JOB.getUri(baseUri, siteId);
+    }
+
+    @Benchmark
+    public URI jobDetailUri() {
+        return ApiUrl.GET_JOB_DETAIL.getUri(baseUri, siteId, jobId);
+    }
+}
@@ -0,0 +1,93 @@
+package com.doverunner.sample.tnp.emulator;
+
+import com.doverunner.sample.tnp.client.TnpClient;
+import com.doverunner.sample.tnp.client.bulk.BulkJobSubmitter;
+import com.doverunner.sample.tnp.client.bulk.SubmissionResult;
+import com.doverunner.sample.tnp.client.poll.JobStatusPoller;
+import com.doverunner.sample.tnp.client.response.JobDetail;
+import com.doverunner.sample.tnp.job.BenchmarkJobs;
+import com.doverunner.sample.tnp.job.Job;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// End to end against the in-process emulator: submit a batch, then poll every job until it finishes.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmulatorThroughputBenchmark {
+
+    @Param({"100"})
+    private int batchSize;
+
+    @Param({"16", "64"})
+    private int maxInFlight;
+
+    private TnpEmulator emulator;
+    private BulkJobSubmitter submitter;
+    private JobStatusPoller poller;
+    private List<Job> jobs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        emulator = new TnpEmulator.Builder()
+                .latency(LatencyDistribution.logNormal(Duration.ofMillis(5), Duration.ofMillis(40)))
+                .queueTime(LatencyDistribution.uniform(Duration.ofMillis(10), Duration.ofMillis(50)))
+                .transcodeTime(LatencyDistribution.uniform(Duration.ofMillis(50), Duration.ofMillis(150)))
+                .packageTime(LatencyDistribution.uniform(Duration.ofMillis(20), Duration.ofMillis(60)))
+                .jobFailureRate(0.05)
+                .seed(42)
+                .build()
+                .start();
+        TnpClient client = new TnpClient.Builder()
+                .siteId("BENCH")
+                .authToken("valid-token")
+                .baseUri(emulator.getBaseUri())
+                .build();
+        submitter = new BulkJobSubmitter.Builder()
+                .client(client)
+                .maxInFlight(maxInFlight)
+                .build();
+        poller = new JobStatusPoller.Builder()
+                .client(client)
+                .initialInterval(Duration.ofMillis(20))
+                .maxInterval(Duration.ofMillis(200))
+                .maxInFlight(maxInFlight)
+                .build();
+        Job job = BenchmarkJobs.job(6, 2);
+        jobs = IntStream.range(0, batchSize).mapToObj(i -> job).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        poller.close();
+        emulator.close();
+    }
+
+    @Benchmark
+    public List<JobDetail> submitAndWatch() {
+        List<CompletableFuture<JobDetail>> watched = submitter.submitAll(jobs)
+                .filter(SubmissionResult::isSuccess)
+                .map(result -> poller.watch(result.getResponse().getJobId()))
+                .toList();
+        return watched.stream().map(CompletableFuture::join).toList();
+    }
+}
@@ -0,0 +1,123 @@
+package com.doverunner.sample.tnp.job;
+
+import com.doverunner.sample.tnp.job.input.Audio;
+import com.doverunner.sample.tnp.job.input.Input;
+import com.doverunner.sample.tnp.job.input.InputFile;
+import com.doverunner.sample.tnp.job.input.Subtitle;
+import com.doverunner.sample.tnp.job.output.Output;
+import com.doverunner.sample.tnp.job.output.drm.Drm;
+import com.doverunner.sample.tnp.job.output.drm.DrmOption;
+import com.doverunner.sample.tnp.job.output.packaging.Packaging;
+import com.doverunner.sample.tnp.job.output.packaging.PackagingOption;
+import com.doverunner.sample.tnp.job.output.packaging.SubtitleFormat;
+import com.doverunner.sample.tnp.job.output.transcoding.AudioTranscoding;
+import com.doverunner.sample.tnp.job.output.transcoding.BitrateMode;
+import com.doverunner.sample.tnp.job.output.transcoding.Transcoding;
+import com.doverunner.sample.tnp.job.output.transcoding.VideoTranscoding;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BenchmarkJobs {
+
+    // Typical HLS/DASH ladder, lowest rung first: {width, height, kbps}.
+    private static final int[][] LADDER = {
+            {426, 240, 400}, {640, 360, 800}, {854, 480, 1400}, {1280, 720, 2800},
+            {1920, 1080, 5000}, {2560, 1440, 9000}, {3840, 2160, 16000}, {3840, 2160, 25000}
+    };
+    private static final String[] LANGUAGES = {"kor", "eng", "jpn", "spa"};
+
+    private BenchmarkJobs() {
+    }
+
+    public static Job job(int rungs, int languages) {
+        return new Job.Builder()
+                .jobName("benchmark_job")
+                .contentId("content_001")
+                .input(input(languages))
+                .output(output(rungs, languages))
+                .build();
+    }
+
+    public static Input input(int languages) {
+        List<Audio> audios = new ArrayList<>(languages);
+        List<Subtitle> subtitles = new ArrayList<>(languages);
+        for (int i = 0; i < languages; i++) {
+            audios.add(new Audio.Builder()
+                    .in(new Track(i + 1))
+                    .remap(new Track(i))
+                    .build());
+            subtitles.add(new Subtitle.Builder()
+                    .filePath("subtitles/" + LANGUAGES[i] + ".vtt")
+                    .language(LANGUAGES[i])
+                    .build());
+        }
+        return new Input.Builder()
+                .storageId("storage-input")
+                .files(List.of(new InputFile.Builder()
+                        .fileType(FileType.MULTI)
+                        .filePath("source/master.mov")
+                        .audios(audios)
+                        .build()))
+                .subtitles(subtitles)
+                .build();
+    }
+
+    public static Output output(int rungs, int languages) {
+        return new Output.Builder()
+                .storageId("storage-output")
+                .path("/output/content_001")
+                .defaultLanguage(LANGUAGES[0])
+                .transcodings(transcodings(rungs, languages))
+                .packaging(new Packaging.Builder()
+                        .dash(true)
+                        .hls(true)
+                        .option(new PackagingOption.Builder()
+                                .minBufferTime(3)
+                                .enableAverageBandwidthMpd(true)
+                                .subtitleFormat(new SubtitleFormat.Builder()
+                                        .dash("text.vtt")
+                                        .build())
+                                .build())
+                        .build())
+                .drm(new Drm.Builder()
+                        .enabled(true)
+                        .option(new DrmOption.Builder()
+                                .multiKey(true)
+                                .maxSdHeight(480)
+                                .maxHdHeight(1080)
+                                .maxUhd1Height(2160)
+                                .clearLead(5)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    public static List<Transcoding> transcodings(int rungs, int languages) {
+        List<Transcoding> transcodings = new ArrayList<>(rungs + languages);
+        for (int i = 0; i < rungs; i++) {
+            transcodings.add(rung(i).build());
+        }
+        for (int i = 0; i < languages; i++) {
+            transcodings.add(new AudioTranscoding.Builder()
+                    .trackId("audio_" + LANGUAGES[i])
+                    .trackType(FileType.AUDIO)
+                    .codec("aac")
+                    .language(LANGUAGES[i])
+                    .sources(List.of(new Track(i)))
+                    .build());
+        }
+        return transcodings;
+    }
+
+    public static VideoTranscoding.Builder rung(int index) {
+        int[] rung = LADDER[index % LADDER.length];
+        return new VideoTranscoding.Builder()
+                .trackId("video_" + rung[1] + "p_" + index)
+                .trackType(FileType.VIDEO)
+                .codec(rung[1] > 1080 ? "h265" : "h264")
+                .width(rung[0])
+                .height(rung[1])
+                .bitrateMode(BitrateMode.CBR)
+                .bitrate(rung[2]);
+    }
+}
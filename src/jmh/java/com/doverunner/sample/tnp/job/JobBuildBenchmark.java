@@ -0,0 +1,62 @@
+package com.doverunner.sample.tnp.job;
+
+import com.doverunner.sample.tnp.job.input.Input;
+import com.doverunner.sample.tnp.job.output.Output;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobBuildBenchmark {
+
+    @Param({"3", "6", "8"})
+    private int rungs;
+
+    @Param({"1", "4"})
+    private int languages;
+
+    private Input input;
+    private Output output;
+    private JobTemplate template;
+
+    @Setup
+    public void setup() {
+        input = BenchmarkJobs.input(languages);
+        output = BenchmarkJobs.output(rungs, languages);
+        template = new JobTemplate.Builder().output(output).build();
+    }
+
+    @Benchmark
+    public Job buildJob() {
+        return new Job.Builder()
+                .jobName("benchmark_job")
+                .contentId("content_001")
+                .input(input)
+                .output(output)
+                .build();
+    }
+
+    @Benchmark
+    public Job buildSubmission() {
+        return BenchmarkJobs.job(rungs, languages);
+    }
+
+    @Benchmark
+    public Job buildFromTemplate() {
+        return template.newJob("benchmark_job", "content_001", input);
+    }
+}
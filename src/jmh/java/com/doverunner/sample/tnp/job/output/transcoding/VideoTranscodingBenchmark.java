@@ -0,0 +1,77 @@
+package com.doverunner.sample.tnp.job.output.transcoding;
+
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.BenchmarkJobs;
+import com.doverunner.sample.tnp.validation.ValidationResult;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// validateBitrateConditions is private, so each case goes through Builder.build() with a prepared builder.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VideoTranscodingBenchmark {
+
+    private VideoTranscoding.Builder cbr;
+    private VideoTranscoding.Builder vbrMinMax;
+    private VideoTranscoding.Builder vbrCrf;
+    private VideoTranscoding.Builder vbrConflicting;
+
+    @Setup
+    public void setup() {
+        cbr = BenchmarkJobs.rung(4);
+        vbrMinMax = BenchmarkJobs.rung(4)
+                .bitrateMode(BitrateMode.VBR)
+                .bitrate(null)
+                .minBitrate(3000)
+                .maxBitrate(6000);
+        vbrCrf = BenchmarkJobs.rung(4)
+                .bitrateMode(BitrateMode.VBR)
+                .bitrate(null)
+                .crf(23);
+        vbrConflicting = BenchmarkJobs.rung(4)
+                .bitrateMode(BitrateMode.VBR)
+                .crf(23);
+    }
+
+    @Benchmark
+    public VideoTranscoding cbr() {
+        return cbr.build();
+    }
+
+    @Benchmark
+    public VideoTranscoding vbrMinMax() {
+        return vbrMinMax.build();
+    }
+
+    @Benchmark
+    public VideoTranscoding vbrCrf() {
+        return vbrCrf.build();
+    }
+
+    @Benchmark
+    public Object vbrConflicting() {
+        try {
+            return vbrConflicting.build();
+        } catch (TnpCustomException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ValidationResult vbrConflictingValidate() {
+        return vbrConflicting.validate();
+    }
+}
@@ -0,0 +1,843 @@
+package com.doverunner.sample.tnp.client;
+
+import com.doverunner.sample.tnp.client.auth.AuthToken;
+import com.doverunner.sample.tnp.client.auth.CachingTokenProvider;
+import com.doverunner.sample.tnp.client.auth.TokenProvider;
+import com.doverunner.sample.tnp.client.body.JsonBodyPublisher;
+import com.doverunner.sample.tnp.client.breaker.CircuitBreaker;
+import com.doverunner.sample.tnp.client.breaker.CircuitBreakerRegistry;
+import com.doverunner.sample.tnp.client.codec.TnpCodec;
+import com.doverunner.sample.tnp.client.limit.AdaptiveConcurrencyLimiter;
+import com.doverunner.sample.tnp.client.limit.AdaptiveConcurrencyLimiter.Outcome;
+import com.doverunner.sample.tnp.client.limit.AdaptiveConcurrencyLimiter.Permit;
+import com.doverunner.sample.tnp.client.metrics.TnpMetrics;
+import com.doverunner.sample.tnp.client.page.JobListIterator;
+import com.doverunner.sample.tnp.client.region.RegionRouter;
+import com.doverunner.sample.tnp.client.response.JobCreatedResponse;
+import com.doverunner.sample.tnp.client.response.JobDetail;
+import com.doverunner.sample.tnp.client.response.JobListPage;
+import com.doverunner.sample.tnp.client.response.JobSummary;
+import com.doverunner.sample.tnp.client.response.ResponseReader;
+import com.doverunner.sample.tnp.client.response.TokenResponse;
+import com.doverunner.sample.tnp.client.retry.RetryPolicy;
+import com.doverunner.sample.tnp.constant.RegionCode;
+import com.doverunner.sample.tnp.constant.web.ApiUrl;
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpApiException;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.jfr.HttpCallEvent;
+import com.doverunner.sample.tnp.jfr.JobSerializationEvent;
+import com.doverunner.sample.tnp.jfr.RetryBackoffEvent;
+import com.doverunner.sample.tnp.job.Job;
+import com.doverunner.sample.tnp.job.JobTemplate;
+import com.doverunner.sample.tnp.validation.PreflightValidator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TnpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(TnpClient.class);
+
+    private static final String HEADER_AUTHORIZATION = "Authorization";
+    private static final String HEADER_CONTENT_TYPE = "Content-Type";
+    private static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String HEADER_RETRY_AFTER = "Retry-After";
+    private static final String CONTENT_TYPE_JSON = "application/json";
+    private static final String BASIC_PREFIX = "Basic ";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int HTTP_UNAUTHORIZED = 401;
+    // Bodies are read from a blocking InputStream, so parsing must never occupy the HttpClient executor.
+    private static final Executor RESPONSE_EXECUTOR = task -> Thread.ofVirtual().name("tnp-response").start(task);
+
+    private final String siteId;
+    private final String emailId;
+    private final String accessKey;
+    private final Duration tokenTtl;
+    private final TokenProvider tokenProvider;
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+    private final TnpCodec codec;
+    private final AdaptiveConcurrencyLimiter createJobLimiter;
+    private final RetryPolicy retryPolicy;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final RegionRouter regionRouter;
+    private final TnpMetrics metrics;
+    private final PreflightValidator preflightValidator;
+
+    private TnpClient(String siteId, String emailId, String accessKey, TokenProvider tokenProvider,
+                      Duration tokenRefreshAhead, Duration tokenTtl, URI baseUri, Duration requestTimeout,
+                      HttpClient httpClient, TnpCodec codec, AdaptiveConcurrencyLimiter createJobLimiter,
+                      RetryPolicy retryPolicy, CircuitBreakerRegistry circuitBreakers,
+                      RegionRouter regionRouter, TnpMetrics metrics, PreflightValidator preflightValidator) {
+        this.siteId = siteId;
+        this.emailId = emailId;
+        this.accessKey = accessKey;
+        this.tokenTtl = tokenTtl;
+        this.tokenProvider = tokenProvider != null || emailId == null
+                ? tokenProvider
+                : new CachingTokenProvider(this::fetchAuthToken, tokenRefreshAhead);
+        this.baseUri = baseUri;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = httpClient;
+        this.codec = codec;
+        this.createJobLimiter = createJobLimiter;
+        this.retryPolicy = retryPolicy;
+        this.circuitBreakers = circuitBreakers;
+        this.regionRouter = regionRouter;
+        this.metrics = metrics;
+        this.preflightValidator = preflightValidator;
+        if (createJobLimiter != null) {
+            metrics.gauge("tnp_create_job_concurrency_limit", "Current CREATE_JOB concurrency limit.",
+                    createJobLimiter::getLimit);
+            metrics.gauge("tnp_create_job_permits_in_use", "CREATE_JOB permits currently held.",
+                    createJobLimiter::getInFlight);
+        }
+    }
+
+    public TokenResponse getAuthToken() {
+        return send(authTokenRequest(), basicAuthorization());
+    }
+
+    public JobCreatedResponse createJob(Job job) {
+        return createJob(job, null);
+    }
+
+    public JobCreatedResponse createJob(Job job, String dedupeKey) {
+        return execute(createJobRequest(job, dedupeKey));
+    }
+
+    public JobListPage getJobList() {
+        return execute(new ApiRequest<>(ApiUrl.GET_JOB_LIST, JobListPage::read, BodyPublishers.noBody(), null,
+                siteId));
+    }
+
+    public JobListPage getJobList(int page, int size) {
+        return execute(jobListRequest(page, size));
+    }
+
+    public Stream<JobSummary> streamJobs() {
+        return streamJobs(JobListIterator.DEFAULT_PAGE_SIZE, JobListIterator.DEFAULT_PAGE_WINDOW);
+    }
+
+    public Stream<JobSummary> streamJobs(int pageSize, int pageWindow) {
+        JobListIterator iterator = new JobListIterator.Builder()
+                .fetcher(this::getJobListAsync)
+                .pageSize(pageSize)
+                .pageWindow(pageWindow)
+                .build();
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    public JobDetail getJobDetail(String jobId) {
+        return execute(jobDetailRequest(jobId));
+    }
+
+    public Map<String, Object> stopJob(String jobId) {
+        return execute(jobActionRequest(ApiUrl.STOP_JOB, jobId));
+    }
+
+    public Map<String, Object> restartJob(String jobId) {
+        return execute(jobActionRequest(ApiUrl.RESTART_JOB, jobId));
+    }
+
+    public CompletableFuture<TokenResponse> getAuthTokenAsync() {
+        return sendAsync(authTokenRequest(), basicAuthorization());
+    }
+
+    public CompletableFuture<JobCreatedResponse> createJobAsync(Job job) {
+        return createJobAsync(job, null);
+    }
+
+    public CompletableFuture<JobCreatedResponse> createJobAsync(Job job, String dedupeKey) {
+        return executeAsync(createJobRequest(job, dedupeKey));
+    }
+
+    public CompletableFuture<JobListPage> getJobListAsync() {
+        return executeAsync(new ApiRequest<>(ApiUrl.GET_JOB_LIST, JobListPage::read, BodyPublishers.noBody(), null,
+                siteId));
+    }
+
+    public CompletableFuture<JobListPage> getJobListAsync(int page, int size) {
+        return executeAsync(jobListRequest(page, size));
+    }
+
+    public CompletableFuture<JobDetail> getJobDetailAsync(String jobId) {
+        return executeAsync(jobDetailRequest(jobId));
+    }
+
+    public CompletableFuture<Map<String, Object>> stopJobAsync(String jobId) {
+        return executeAsync(jobActionRequest(ApiUrl.STOP_JOB, jobId));
+    }
+
+    public CompletableFuture<Map<String, Object>> restartJobAsync(String jobId) {
+        return executeAsync(jobActionRequest(ApiUrl.RESTART_JOB, jobId));
+    }
+
+    public TnpCodec getCodec() {
+        return codec;
+    }
+
+    public AdaptiveConcurrencyLimiter getCreateJobLimiter() {
+        return createJobLimiter;
+    }
+
+    private <T> T execute(ApiRequest<T> request) {
+        RetryPolicy.Backoff backoff = retryPolicy.newBackoff();
+
+        while (true) {
+            try {
+                return sendLimited(request);
+            } catch (RuntimeException e) {
+                Duration delay = request.isRetryable() ? backoff.nextDelay(e) : null;
+                if (delay == null) {
+                    throw e;
+                }
+                logger.debug("Retrying {} in {} ms (attempt {})", request.apiUrl, delay.toMillis(),
+                        backoff.getAttempts());
+                RetryBackoffEvent event = new RetryBackoffEvent();
+                event.begin();
+                sleep(delay, request.apiUrl);
+                event.finish(request.apiUrl, request.jobName(), request.contentId(), backoff.getAttempts(),
+                        delay.toMillis(), e);
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> executeAsync(ApiRequest<T> request) {
+        return executeAsync(request, retryPolicy.newBackoff());
+    }
+
+    private <T> CompletableFuture<T> executeAsync(ApiRequest<T> request, RetryPolicy.Backoff backoff) {
+        return sendLimitedAsync(request).exceptionallyCompose(throwable -> {
+            Throwable cause = unwrap(throwable);
+            Duration delay = request.isRetryable() ? backoff.nextDelay(cause) : null;
+            if (delay == null) {
+                return CompletableFuture.failedFuture(cause);
+            }
+            logger.debug("Retrying {} in {} ms (attempt {})", request.apiUrl, delay.toMillis(),
+                    backoff.getAttempts());
+            RetryBackoffEvent event = new RetryBackoffEvent();
+            event.begin();
+            Executor delayed = CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS);
+            return CompletableFuture.runAsync(() -> event.finish(request.apiUrl, request.jobName(),
+                            request.contentId(), backoff.getAttempts(), delay.toMillis(), cause), delayed)
+                    .thenCompose(ignored -> executeAsync(request, backoff));
+        });
+    }
+
+    private void sleep(Duration delay, ApiUrl apiUrl) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TnpCustomException(ErrorCode.API_CONNECTION_FAILED,
+                    "Interrupted while waiting to retry " + apiUrl.name() + ".", e);
+        }
+    }
+
+    private <T> T sendLimited(ApiRequest<T> request) {
+        AdaptiveConcurrencyLimiter limiter = limiterFor(request.apiUrl);
+        if (limiter == null) {
+            return sendAuthorized(request);
+        }
+
+        Permit permit = acquirePermit(limiter, request.apiUrl);
+        try {
+            T response = sendAuthorized(request);
+            permit.release(Outcome.SUCCESS);
+            return response;
+        } catch (RuntimeException e) {
+            permit.release(limiterOutcome(e));
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> sendLimitedAsync(ApiRequest<T> request) {
+        AdaptiveConcurrencyLimiter limiter = limiterFor(request.apiUrl);
+        if (limiter == null) {
+            return invokeAsync(() -> sendAuthorizedAsync(request));
+        }
+
+        return limiter.acquireAsync().thenCompose(permit -> invokeAsync(() -> sendAuthorizedAsync(request))
+                .whenComplete((response, throwable) -> permit.release(
+                        throwable == null ? Outcome.SUCCESS : limiterOutcome(unwrap(throwable)))));
+    }
+
+    private AdaptiveConcurrencyLimiter limiterFor(ApiUrl apiUrl) {
+        return apiUrl == ApiUrl.CREATE_JOB ? createJobLimiter : null;
+    }
+
+    private Permit acquirePermit(AdaptiveConcurrencyLimiter limiter, ApiUrl apiUrl) {
+        try {
+            return limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TnpCustomException(ErrorCode.API_CONNECTION_FAILED,
+                    "Interrupted while waiting for a " + apiUrl.name() + " permit.", e);
+        }
+    }
+
+    private Outcome limiterOutcome(Throwable failure) {
+        return switch (RetryPolicy.classify(failure)) {
+            case CONNECT, TIMEOUT, THROTTLED, SERVER_ERROR -> Outcome.OVERLOAD;
+            case CLIENT_ERROR, OTHER -> Outcome.IGNORE;
+        };
+    }
+
+    private ApiRequest<TokenResponse> authTokenRequest() {
+        return new ApiRequest<>(ApiUrl.AUTH_TOKEN, TokenResponse::read, BodyPublishers.noBody(), null, siteId);
+    }
+
+    private ApiRequest<JobCreatedResponse> createJobRequest(Job job, String dedupeKey) {
+        requireJob(job);
+        if (preflightValidator != null) {
+            preflightValidator.validate(job).throwIfInvalid();
+        }
+        return new ApiRequest<>(ApiUrl.CREATE_JOB, JobCreatedResponse::read, serialize(job), dedupeKey, siteId)
+                .forJob(job);
+    }
+
+    private ApiRequest<JobDetail> jobDetailRequest(String jobId) {
+        return new ApiRequest<>(ApiUrl.GET_JOB_DETAIL, JobDetail::read, BodyPublishers.noBody(), null, siteId,
+                requireJobId(jobId));
+    }
+
+    private ApiRequest<Map<String, Object>> jobActionRequest(ApiUrl apiUrl, String jobId) {
+        return new ApiRequest<>(apiUrl, this::readMap, BodyPublishers.noBody(), null, siteId, requireJobId(jobId));
+    }
+
+    private ApiRequest<JobListPage> jobListRequest(int page, int size) {
+        if (page < 1 || size < 1) {
+            throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                    "The 'page' and 'size' must be at least 1 when requesting the Job list.");
+        }
+        return new ApiRequest<>(ApiUrl.GET_JOB_LIST, JobListPage::read, BodyPublishers.noBody(), null, siteId)
+                .withQuery("page=" + page + "&size=" + size);
+    }
+
+    private Job requireJob(Job job) {
+        if (job == null) {
+            throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                    "The 'job' field is required when creating a Job.");
+        }
+        return job;
+    }
+
+    private String requireJobId(String jobId) {
+        if (jobId == null || jobId.isBlank()) {
+            throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                    "The 'jobId' field is required when requesting a Job.");
+        }
+        return jobId;
+    }
+
+    private String basicAuthorization() {
+        if (emailId == null || accessKey == null) {
+            throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                    "The 'emailId' and 'accessKey' fields are required to request an auth token.");
+        }
+        String credentials = emailId + ":" + accessKey;
+        return BASIC_PREFIX + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CompletableFuture<AuthToken> fetchAuthToken() {
+        return getAuthTokenAsync().thenApply(response -> AuthToken.from(response, Instant.now(), tokenTtl));
+    }
+
+    private TokenProvider requireTokenProvider() {
+        if (tokenProvider == null) {
+            throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                    "Either 'authToken' or 'emailId' and 'accessKey' are required to call the Job API.");
+        }
+        return tokenProvider;
+    }
+
+    private String bearerAuthorization(String token) {
+        return token.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())
+                ? token
+                : BEARER_PREFIX + token;
+    }
+
+    private BodyPublisher serialize(Job job) {
+        JobSerializationEvent event = new JobSerializationEvent();
+        event.begin();
+        try {
+            JobTemplate template = job.getTemplate();
+            if (template != null && template.getMapper() != codec.getMapper()) {
+                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                        "The JobTemplate must be built with the client's codec mapper, "
+                                + "or its cached 'output' JSON may differ from the rest of the body.");
+            }
+            JsonBodyPublisher body = template != null
+                    ? JsonBodyPublisher.of(codec.writerFor(JsonSerializable.class), template.bodyOf(job))
+                    : JsonBodyPublisher.of(codec.writerFor(Job.class), job);
+            event.finish(job.getJobName(), job.getContentId(), body.contentLength());
+            return body;
+        } catch (IOException e) {
+            throw new TnpCustomException(ErrorCode.INVALID_VALUE, "Failed to serialize the Job request body.", e);
+        }
+    }
+
+    private <T> T sendAuthorized(ApiRequest<T> request) {
+        TokenProvider provider = requireTokenProvider();
+        String token = provider.getToken();
+
+        try {
+            return send(request, bearerAuthorization(token));
+        } catch (TnpApiException e) {
+            if (e.getStatusCode() != HTTP_UNAUTHORIZED) {
+                throw e;
+            }
+            provider.invalidate(token);
+            return send(request, bearerAuthorization(provider.getToken()));
+        }
+    }
+
+    private <T> CompletableFuture<T> sendAuthorizedAsync(ApiRequest<T> request) {
+        TokenProvider provider = requireTokenProvider();
+
+        return provider.getTokenAsync().thenCompose(token -> sendAsync(request, bearerAuthorization(token))
+                .exceptionallyCompose(throwable -> {
+                    if (!(unwrap(throwable) instanceof TnpApiException e) || e.getStatusCode() != HTTP_UNAUTHORIZED) {
+                        return CompletableFuture.failedFuture(throwable);
+                    }
+                    provider.invalidate(token);
+                    return provider.getTokenAsync()
+                            .thenCompose(refreshed -> sendAsync(request, bearerAuthorization(refreshed)));
+                }));
+    }
+
+    private <T> T send(ApiRequest<T> request, String authorization) {
+        RegionRouter.Route route = regionRouter != null ? regionRouter.select() : null;
+        HttpRequest httpRequest = newRequest(request, authorization, route != null ? route.getEndpoint() : baseUri);
+        Exchange exchange = new Exchange(request, circuitBreakerFor(httpRequest).acquirePermit(), route);
+
+        try {
+            HttpResponse<InputStream> response = httpClient.send(httpRequest, BodyHandlers.ofInputStream());
+            exchange.responded(response.statusCode());
+            T result = handleResponse(request, httpRequest, response);
+            exchange.complete(null);
+            return result;
+        } catch (IOException e) {
+            TnpCustomException failure = connectionFailure(request.apiUrl, e);
+            exchange.complete(failure);
+            throw failure;
+        } catch (InterruptedException e) {
+            exchange.complete(e);
+            Thread.currentThread().interrupt();
+            throw new TnpCustomException(ErrorCode.API_CONNECTION_FAILED,
+                    "Interrupted while calling " + request.apiUrl.name() + ".", e);
+        } catch (RuntimeException e) {
+            exchange.complete(e);
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> sendAsync(ApiRequest<T> request, String authorization) {
+        RegionRouter.Route route = regionRouter != null ? regionRouter.select() : null;
+        HttpRequest httpRequest = newRequest(request, authorization, route != null ? route.getEndpoint() : baseUri);
+        Exchange exchange;
+        try {
+            exchange = new Exchange(request, circuitBreakerFor(httpRequest).acquirePermit(), route);
+        } catch (TnpCustomException e) {
+            // Async callers expect an open circuit as a failed future, not an exception from the call itself.
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return invokeAsync(() -> httpClient.sendAsync(httpRequest, BodyHandlers.ofInputStream()))
+                .handleAsync((response, throwable) -> {
+                    if (throwable != null) {
+                        throw new CompletionException(translateFailure(request.apiUrl, throwable));
+                    }
+                    exchange.responded(response.statusCode());
+                    return handleResponse(request, httpRequest, response);
+                }, RESPONSE_EXECUTOR)
+                .whenComplete((response, throwable) -> exchange.complete(throwable != null ? unwrap(throwable) : null));
+    }
+
+    private CircuitBreaker circuitBreakerFor(HttpRequest httpRequest) {
+        return circuitBreakers.get(httpRequest.uri().getAuthority());
+    }
+
+    private HttpRequest newRequest(ApiRequest<?> request, String authorization, URI endpoint) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(request.getUri(endpoint))
+                .timeout(requestTimeout)
+                .header(HEADER_AUTHORIZATION, authorization)
+                .header(HEADER_CONTENT_TYPE, CONTENT_TYPE_JSON)
+                .method(request.apiUrl.getMethod(), request.body);
+        if (request.idempotencyKey != null) {
+            builder.header(HEADER_IDEMPOTENCY_KEY, request.idempotencyKey);
+        }
+        return builder.build();
+    }
+
+    private <T> T handleResponse(ApiRequest<T> request, HttpRequest httpRequest, HttpResponse<InputStream> response) {
+        logger.debug("{} {} -> {}", httpRequest.method(), httpRequest.uri(), response.statusCode());
+
+        try (InputStream body = response.body()) {
+            if (response.statusCode() / 100 != 2) {
+                Duration retryAfter = RetryPolicy.parseRetryAfter(
+                        response.headers().firstValue(HEADER_RETRY_AFTER).orElse(null), Instant.now());
+                throw new TnpApiException(response.statusCode(),
+                        new String(body.readAllBytes(), StandardCharsets.UTF_8), retryAfter);
+            }
+            try (JsonParser parser = codec.getMapper().createParser(body)) {
+                parser.nextToken();
+                return request.reader.read(parser);
+            }
+        } catch (JsonProcessingException e) {
+            throw new TnpCustomException(ErrorCode.API_REQUEST_FAILED,
+                    "Failed to parse the response of " + httpRequest.uri() + ".", e);
+        } catch (IOException e) {
+            throw connectionFailure(request.apiUrl, e);
+        }
+    }
+
+    private Map<String, Object> readMap(JsonParser parser) throws IOException {
+        return parser.currentToken() != null ? codec.readerFor(TnpCodec.MAP_TYPE).readValue(parser) : Map.of();
+    }
+
+    private <T> CompletableFuture<T> invokeAsync(Supplier<CompletableFuture<T>> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
+    private Throwable translateFailure(ApiUrl apiUrl, Throwable throwable) {
+        Throwable cause = unwrap(throwable);
+        if (cause instanceof IOException ioException) {
+            return connectionFailure(apiUrl, ioException);
+        }
+        return cause;
+    }
+
+    private TnpCustomException connectionFailure(ApiUrl apiUrl, IOException e) {
+        return new TnpCustomException(ErrorCode.API_CONNECTION_FAILED,
+                "Failed to call " + apiUrl.name() + ": " + e.getMessage(), e);
+    }
+
+    private final class Exchange {
+
+        private final ApiRequest<?> request;
+        private final CircuitBreaker.Permit permit;
+        private final RegionRouter.Route route;
+        private final HttpCallEvent event = new HttpCallEvent();
+        private final long startNanos = System.nanoTime();
+        private volatile int statusCode;
+        private volatile long headersNanos;
+
+        private Exchange(ApiRequest<?> request, CircuitBreaker.Permit permit, RegionRouter.Route route) {
+            this.request = request;
+            this.permit = permit;
+            this.route = route;
+            event.begin();
+            metrics.requestStarted(request.apiUrl, region());
+        }
+
+        private void responded(int statusCode) {
+            this.headersNanos = System.nanoTime() - startNanos;
+            this.statusCode = statusCode;
+        }
+
+        private void complete(Throwable failure) {
+            long latencyNanos = System.nanoTime() - startNanos;
+            permit.release(failure);
+            if (route != null) {
+                route.record(failure);
+            }
+            int status = failure instanceof TnpApiException e ? e.getStatusCode() : statusCode;
+            metrics.requestCompleted(request.apiUrl, region(), status, latencyNanos);
+            event.finish(request.apiUrl, region(), request.jobId(), request.jobName(), request.contentId(),
+                    status, headersNanos);
+        }
+
+        private RegionCode region() {
+            return route != null ? route.getRegion() : null;
+        }
+    }
+
+    private static final class ApiRequest<T> {
+
+        private final ApiUrl apiUrl;
+        private final ResponseReader<T> reader;
+        private final BodyPublisher body;
+        private final String idempotencyKey;
+        private final String query;
+        private final Job job;
+        private final String[] params;
+
+        private ApiRequest(ApiUrl apiUrl, ResponseReader<T> reader, BodyPublisher body, String idempotencyKey,
+                           String... params) {
+            this(apiUrl, reader, body, idempotencyKey, null, null, params);
+        }
+
+        private ApiRequest(ApiUrl apiUrl, ResponseReader<T> reader, BodyPublisher body, String idempotencyKey,
+                           String query, Job job, String[] params) {
+            this.apiUrl = apiUrl;
+            this.reader = reader;
+            this.body = body;
+            this.idempotencyKey = idempotencyKey;
+            this.query = query;
+            this.job = job;
+            this.params = params;
+        }
+
+        private ApiRequest<T> withQuery(String query) {
+            return new ApiRequest<>(apiUrl, reader, body, idempotencyKey, query, job, params);
+        }
+
+        private ApiRequest<T> forJob(Job job) {
+            return new ApiRequest<>(apiUrl, reader, body, idempotencyKey, query, job, params);
+        }
+
+        private URI getUri(URI baseUri) {
+            return query != null
+                    ? URI.create(apiUrl.getUrl(baseUri, params) + "?" + query)
+                    : apiUrl.getUri(baseUri, params);
+        }
+
+        private boolean isRetryable() {
+            return apiUrl.isIdempotent() || idempotencyKey != null;
+        }
+
+        // Job-level URL patterns take the site id first and the job id second.
+        private String jobId() {
+            return params.length > 1 ? params[1] : null;
+        }
+
+        private String jobName() {
+            return job != null ? job.getJobName() : null;
+        }
+
+        private String contentId() {
+            return job != null ? job.getContentId() : null;
+        }
+    }
+
+    public static class Builder {
+
+        private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+        private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+        private static final Duration DEFAULT_TOKEN_REFRESH_AHEAD = Duration.ofMinutes(1);
+        private static final Duration DEFAULT_TOKEN_TTL = Duration.ofMinutes(30);
+
+        private String siteId;
+        private String emailId;
+        private String accessKey;
+        private TokenProvider tokenProvider;
+        private Duration tokenRefreshAhead = DEFAULT_TOKEN_REFRESH_AHEAD;
+        private Duration tokenTtl = DEFAULT_TOKEN_TTL;
+        private URI baseUri = ApiUrl.DEFAULT_BASE_URI;
+        private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+        private Executor executor;
+        private ObjectMapper mapper;
+        private TnpCodec codec;
+        private AdaptiveConcurrencyLimiter createJobLimiter;
+        private RetryPolicy retryPolicy = new RetryPolicy.Builder().build();
+        private CircuitBreakerRegistry circuitBreakers = new CircuitBreakerRegistry.Builder().build();
+        private RegionRouter regionRouter;
+        private TnpMetrics metrics = TnpMetrics.noop();
+        private PreflightValidator preflightValidator;
+
+        public Builder siteId(String siteId) {
+            this.siteId = siteId;
+            return this;
+        }
+
+        public Builder emailId(String emailId) {
+            this.emailId = emailId;
+            return this;
+        }
+
+        public Builder accessKey(String accessKey) {
+            this.accessKey = accessKey;
+            return this;
+        }
+
+        public Builder authToken(String authToken) {
+            this.tokenProvider = authToken != null ? TokenProvider.of(authToken) : null;
+            return this;
+        }
+
+        public Builder tokenProvider(TokenProvider tokenProvider) {
+            this.tokenProvider = tokenProvider;
+            return this;
+        }
+
+        public Builder tokenRefreshAhead(Duration tokenRefreshAhead) {
+            this.tokenRefreshAhead = tokenRefreshAhead;
+            return this;
+        }
+
+        public Builder tokenTtl(Duration tokenTtl) {
+            this.tokenTtl = tokenTtl;
+            return this;
+        }
+
+        public Builder baseUri(URI baseUri) {
+            this.baseUri = baseUri;
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder mapper(ObjectMapper mapper) {
+            this.mapper = mapper;
+            return this;
+        }
+
+        public Builder codec(TnpCodec codec) {
+            this.codec = codec;
+            return this;
+        }
+
+        public Builder createJobLimiter(AdaptiveConcurrencyLimiter createJobLimiter) {
+            this.createJobLimiter = createJobLimiter;
+            return this;
+        }
+
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        public Builder circuitBreakers(CircuitBreakerRegistry circuitBreakers) {
+            this.circuitBreakers = circuitBreakers;
+            return this;
+        }
+
+        public Builder regionRouter(RegionRouter regionRouter) {
+            this.regionRouter = regionRouter;
+            return this;
+        }
+
+        public Builder metrics(TnpMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        public Builder preflightValidator(PreflightValidator preflightValidator) {
+            this.preflightValidator = preflightValidator;
+            return this;
+        }
+
+        public TnpClient build() {
+            validate();
+            TnpCodec clientCodec = codec != null ? codec : new TnpCodec.Builder().mapper(mapper).build();
+            return new TnpClient(siteId, emailId, accessKey, tokenProvider, tokenRefreshAhead, tokenTtl, baseUri,
+                    requestTimeout, buildHttpClient(), clientCodec, createJobLimiter, retryPolicy, circuitBreakers,
+                    regionRouter, metrics, preflightValidator);
+        }
+
+        private HttpClient buildHttpClient() {
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(connectTimeout)
+                    .followRedirects(HttpClient.Redirect.NORMAL);
+            if (executor != null) {
+                builder.executor(executor);
+            }
+            return builder.build();
+        }
+
+        private void validate() {
+            if (siteId == null || siteId.isBlank()) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'siteId' field is required when creating a TnpClient.");
+            }
+            if ((emailId == null) != (accessKey == null)) {
+                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                        "The 'emailId' and 'accessKey' fields must be set together when creating a TnpClient.");
+            }
+            if (tokenRefreshAhead == null || tokenRefreshAhead.isNegative()) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'tokenRefreshAhead' must not be negative when creating a TnpClient.");
+            }
+            if (tokenTtl == null || tokenTtl.isNegative() || tokenTtl.isZero()) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'tokenTtl' must be positive when creating a TnpClient.");
+            }
+            if (baseUri == null) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'baseUri' field is required when creating a TnpClient.");
+            }
+            if (connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'connectTimeout' must be positive when creating a TnpClient.");
+            }
+            if (requestTimeout == null || requestTimeout.isNegative() || requestTimeout.isZero()) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'requestTimeout' must be positive when creating a TnpClient.");
+            }
+            if (codec != null && mapper != null) {
+                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                        "Only one of 'codec' and 'mapper' can be set when creating a TnpClient.");
+            }
+            if (retryPolicy == null) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'retryPolicy' field is required when creating a TnpClient.");
+            }
+            if (metrics == null) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'metrics' field is required when creating a TnpClient.");
+            }
+            if (circuitBreakers == null) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'circuitBreakers' field is required when creating a TnpClient.");
+            }
+        }
+    }
+}
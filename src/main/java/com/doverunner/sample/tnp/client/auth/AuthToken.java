@@ -0,0 +1,80 @@
+package com.doverunner.sample.tnp.client.auth;
+
+import com.doverunner.sample.tnp.client.response.TokenResponse;
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+public class AuthToken {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final String value;
+    private final Instant expiresAt;
+
+    public AuthToken(String value, Instant expiresAt) {
+        if (value == null || value.isBlank()) {
+            throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                    "The 'value' field is required when creating an AuthToken.");
+        }
+        if (expiresAt == null) {
+            throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                    "The 'expiresAt' field is required when creating an AuthToken.");
+        }
+        this.value = value;
+        this.expiresAt = expiresAt;
+    }
+
+    public static AuthToken from(TokenResponse response, Instant now, Duration defaultTtl) {
+        String tokenValue = response.getToken();
+        if (tokenValue == null || tokenValue.isBlank()) {
+            throw new TnpCustomException(ErrorCode.API_REQUEST_FAILED,
+                    "The auth token response does not contain a 'token' field.");
+        }
+
+        Instant expiresAt = readJwtExpiry(tokenValue);
+        if (expiresAt == null && response.getExpiresIn() != null) {
+            expiresAt = now.plusSeconds(response.getExpiresIn());
+        }
+        return new AuthToken(tokenValue, expiresAt != null ? expiresAt : now.plus(defaultTtl));
+    }
+
+    private static Instant readJwtExpiry(String token) {
+        String jwt = token.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())
+                ? token.substring(BEARER_PREFIX.length())
+                : token;
+        String[] parts = jwt.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            JsonNode claims = mapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            JsonNode exp = claims.get("exp");
+            return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public boolean isExpiringWithin(Duration window, Instant now) {
+        return !now.plus(window).isBefore(expiresAt);
+    }
+}
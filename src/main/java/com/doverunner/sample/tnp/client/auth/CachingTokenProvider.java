@@ -0,0 +1,150 @@
+package com.doverunner.sample.tnp.client.auth;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.jfr.TokenRefreshEvent;
+import java.lang.ref.WeakReference;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class CachingTokenProvider implements TokenProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingTokenProvider.class);
+
+    private final Supplier<CompletableFuture<AuthToken>> fetcher;
+    private final Duration refreshAhead;
+    private final Clock clock;
+    private final Function<Duration, Executor> delayer;
+    private final AtomicReference<AuthToken> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<AuthToken>> inFlight = new AtomicReference<>();
+
+    public CachingTokenProvider(Supplier<CompletableFuture<AuthToken>> fetcher, Duration refreshAhead) {
+        this(fetcher, refreshAhead, Clock.systemUTC());
+    }
+
+    CachingTokenProvider(Supplier<CompletableFuture<AuthToken>> fetcher, Duration refreshAhead, Clock clock) {
+        this(fetcher, refreshAhead, clock,
+                delay -> CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    CachingTokenProvider(Supplier<CompletableFuture<AuthToken>> fetcher, Duration refreshAhead, Clock clock,
+                         Function<Duration, Executor> delayer) {
+        if (fetcher == null) {
+            throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                    "The 'fetcher' field is required when creating a CachingTokenProvider.");
+        }
+        if (refreshAhead == null || refreshAhead.isNegative()) {
+            throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                    "The 'refreshAhead' must not be negative when creating a CachingTokenProvider.");
+        }
+        this.fetcher = fetcher;
+        this.refreshAhead = refreshAhead;
+        this.clock = clock;
+        this.delayer = delayer;
+    }
+
+    @Override
+    public String getToken() {
+        try {
+            return getTokenAsync().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> getTokenAsync() {
+        AuthToken token = current.get();
+        Instant now = clock.instant();
+
+        if (token != null && !token.isExpired(now)) {
+            if (token.isExpiringWithin(refreshAhead, now)) {
+                refresh();
+            }
+            return CompletableFuture.completedFuture(token.getValue());
+        }
+        return refresh().thenApply(AuthToken::getValue);
+    }
+
+    @Override
+    public void invalidate(String token) {
+        AuthToken cached = current.get();
+        if (cached != null && cached.getValue().equals(token)) {
+            current.compareAndSet(cached, null);
+        }
+    }
+
+    private CompletableFuture<AuthToken> refresh() {
+        while (true) {
+            CompletableFuture<AuthToken> existing = inFlight.get();
+            if (existing != null) {
+                return existing;
+            }
+
+            CompletableFuture<AuthToken> created = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, created)) {
+                startFetch(created);
+                return created;
+            }
+        }
+    }
+
+    private void startFetch(CompletableFuture<AuthToken> target) {
+        TokenRefreshEvent event = new TokenRefreshEvent();
+        event.begin();
+        CompletableFuture<AuthToken> fetched;
+        try {
+            fetched = fetcher.get();
+        } catch (RuntimeException e) {
+            fetched = CompletableFuture.failedFuture(e);
+        }
+
+        fetched.whenComplete((token, throwable) -> {
+            event.finish(throwable == null, throwable == null ? token.getExpiresAt().toEpochMilli() : 0);
+            if (throwable == null) {
+                current.set(token);
+                scheduleRefresh(token);
+            } else {
+                logger.warn("Failed to refresh the auth token.", throwable);
+            }
+            inFlight.compareAndSet(target, null);
+
+            if (throwable == null) {
+                target.complete(token);
+            } else {
+                target.completeExceptionally(throwable);
+            }
+        });
+    }
+
+    // Refreshes refreshAhead before expiry even when no request comes in. The task holds the provider weakly,
+    // so an abandoned client stops refreshing, and it does nothing once a newer token has replaced this one.
+    private void scheduleRefresh(AuthToken token) {
+        Duration delay = Duration.between(clock.instant(), token.getExpiresAt()).minus(refreshAhead);
+        if (delay.isNegative() || delay.isZero()) {
+            return;
+        }
+        WeakReference<CachingTokenProvider> provider = new WeakReference<>(this);
+        CompletableFuture.runAsync(() -> refreshIfCurrent(provider, token), delayer.apply(delay));
+    }
+
+    private static void refreshIfCurrent(WeakReference<CachingTokenProvider> reference, AuthToken token) {
+        CachingTokenProvider provider = reference.get();
+        if (provider != null && provider.current.get() == token) {
+            provider.refresh();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.doverunner.sample.tnp.client.auth;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface TokenProvider {
+
+    String getToken();
+
+    CompletableFuture<String> getTokenAsync();
+
+    default void invalidate(String token) {
+    }
+
+    static TokenProvider of(String token) {
+        CompletableFuture<String> completed = CompletableFuture.completedFuture(token);
+        return new TokenProvider() {
+            @Override
+            public String getToken() {
+                return token;
+            }
+
+            @Override
+            public CompletableFuture<String> getTokenAsync() {
+                return completed;
+            }
+        };
+    }
+}
@@ -0,0 +1,166 @@
+package com.doverunner.sample.tnp.client.body;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class JsonBodyPublisher implements BodyPublisher {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 8 * 1024;
+    public static final int INITIAL_SEGMENT_SIZE = 512;
+
+    private final List<ByteBuffer> segments;
+    private final long contentLength;
+
+    private JsonBodyPublisher(List<ByteBuffer> segments, long contentLength) {
+        this.segments = segments;
+        this.contentLength = contentLength;
+    }
+
+    public static JsonBodyPublisher of(ObjectMapper mapper, Object value) throws IOException {
+        return of(mapper, value, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public static JsonBodyPublisher of(ObjectMapper mapper, Object value, int segmentSize) throws IOException {
+        return of(mapper.writer(), value, segmentSize);
+    }
+
+    public static JsonBodyPublisher of(ObjectWriter writer, Object value) throws IOException {
+        return of(writer, value, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public static JsonBodyPublisher of(ObjectWriter writer, Object value, int segmentSize) throws IOException {
+        if (segmentSize < 1) {
+            throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                    "The 'segmentSize' must be at least 1 when creating a JsonBodyPublisher.");
+        }
+        SegmentOutputStream out = new SegmentOutputStream(segmentSize);
+        try (JsonGenerator generator = writer.createGenerator(out, JsonEncoding.UTF8)) {
+            writer.writeValue(generator, value);
+        }
+        return new JsonBodyPublisher(out.toSegments(), out.size());
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        SegmentSubscription subscription = new SegmentSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    private final class SegmentSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private int index;
+        private boolean completed;
+
+        private SegmentSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancelled = true;
+                subscriber.onError(new IllegalArgumentException("Non-positive request: " + n));
+                return;
+            }
+            demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        // Serialized drain loop: onNext may call request() re-entrantly, which only bumps wip here.
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!cancelled && index < segments.size() && demand.get() > 0) {
+                    demand.decrementAndGet();
+                    subscriber.onNext(segments.get(index++).asReadOnlyBuffer());
+                }
+                if (!cancelled && !completed && index == segments.size()) {
+                    completed = true;
+                    subscriber.onComplete();
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+    }
+
+    private static final class SegmentOutputStream extends OutputStream {
+
+        private final int segmentSize;
+        private final List<ByteBuffer> segments = new ArrayList<>();
+        private ByteBuffer current;
+        private long size;
+
+        private SegmentOutputStream(int segmentSize) {
+            this.segmentSize = segmentSize;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity().put((byte) b);
+            size++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            while (length > 0) {
+                ByteBuffer segment = ensureCapacity();
+                int chunk = Math.min(length, segment.remaining());
+                segment.put(bytes, offset, chunk);
+                offset += chunk;
+                length -= chunk;
+                size += chunk;
+            }
+        }
+
+        // Segments double from INITIAL_SEGMENT_SIZE up to segmentSize, so a small job body does not pin a full segment.
+        // They are not pooled: the HttpClient reads them asynchronously and again on every retry, with no release hook.
+        private ByteBuffer ensureCapacity() {
+            if (current == null || !current.hasRemaining()) {
+                int capacity = current == null
+                        ? Math.min(INITIAL_SEGMENT_SIZE, segmentSize)
+                        : (int) Math.min(current.capacity() * 2L, segmentSize);
+                current = ByteBuffer.allocate(capacity);
+                segments.add(current);
+            }
+            return current;
+        }
+
+        private long size() {
+            return size;
+        }
+
+        private List<ByteBuffer> toSegments() {
+            segments.forEach(ByteBuffer::flip);
+            return List.copyOf(segments);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.doverunner.sample.tnp.client.breaker;
+
+import com.doverunner.sample.tnp.client.retry.RetryPolicy;
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+    private final boolean[] window;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAtNanos;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    CircuitBreaker(String name, double failureRateThreshold, int slidingWindowSize, int minimumCalls,
+                   Duration openDuration, int halfOpenCalls, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[slidingWindowSize];
+    }
+
+    public synchronized Permit acquirePermit() {
+        if (state == State.OPEN) {
+            long remainingNanos = openedAtNanos + openDurationNanos - nanoClock.getAsLong();
+            if (remainingNanos > 0) {
+                throw new TnpCustomException(ErrorCode.CIRCUIT_OPEN, "The circuit for '" + name
+                        + "' is open; calls are rejected for another " + Duration.ofNanos(remainingNanos).toMillis()
+                        + " ms.");
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= halfOpenCalls) {
+                throw new TnpCustomException(ErrorCode.CIRCUIT_OPEN,
+                        "The circuit for '" + name + "' is half-open and its trial calls are in progress.");
+            }
+            halfOpenPermitted++;
+        }
+        return new Permit(generation);
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private synchronized void onRelease(Permit permit, Throwable failure) {
+        // Results of calls admitted before the last state change describe a stale endpoint state.
+        if (permit.generation != generation) {
+            return;
+        }
+
+        Boolean failed = isFailure(failure);
+        if (state == State.HALF_OPEN) {
+            onHalfOpenResult(failed);
+        } else if (state == State.CLOSED && failed != null) {
+            record(failed);
+            if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private void onHalfOpenResult(Boolean failed) {
+        if (failed == null) {
+            halfOpenPermitted--;
+        } else if (failed) {
+            transitionTo(State.OPEN);
+        } else if (++halfOpenSucceeded >= halfOpenCalls) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private void record(boolean failed) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        logger.info("Circuit '{}' changed from {} to {}", name, state, next);
+        state = next;
+        generation++;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        halfOpenPermitted = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+        }
+    }
+
+    private Boolean isFailure(Throwable failure) {
+        if (failure == null) {
+            return false;
+        }
+        // Only failures that say something about the endpoint's health count; 4xx means it answered fine.
+        return switch (RetryPolicy.classify(failure)) {
+            case CONNECT, TIMEOUT, SERVER_ERROR -> true;
+            case THROTTLED, CLIENT_ERROR -> false;
+            case OTHER -> null;
+        };
+    }
+
+    public final class Permit {
+
+        private final long generation;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long generation) {
+            this.generation = generation;
+        }
+
+        public void release(Throwable failure) {
+            if (released.compareAndSet(false, true)) {
+                onRelease(this, failure);
+            }
+        }
+    }
+}
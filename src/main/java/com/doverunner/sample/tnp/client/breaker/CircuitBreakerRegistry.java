@@ -0,0 +1,109 @@
+package com.doverunner.sample.tnp.client.breaker;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+public class CircuitBreakerRegistry {
+
+    private final double failureRateThreshold;
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    private CircuitBreakerRegistry(double failureRateThreshold, int slidingWindowSize, int minimumCalls,
+                                   Duration openDuration, int halfOpenCalls, LongSupplier nanoClock) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumCalls = minimumCalls;
+        this.openDuration = openDuration;
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+    }
+
+    public CircuitBreaker get(String name) {
+        return breakers.computeIfAbsent(name, key -> new CircuitBreaker(key, failureRateThreshold, slidingWindowSize,
+                minimumCalls, openDuration, halfOpenCalls, nanoClock));
+    }
+
+    public static class Builder {
+
+        private static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+        private static final int DEFAULT_SLIDING_WINDOW_SIZE = 20;
+        private static final int DEFAULT_MINIMUM_CALLS = 10;
+        private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+        private static final int DEFAULT_HALF_OPEN_CALLS = 3;
+
+        private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+        private int slidingWindowSize = DEFAULT_SLIDING_WINDOW_SIZE;
+        private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+        private Duration openDuration = DEFAULT_OPEN_DURATION;
+        private int halfOpenCalls = DEFAULT_HALF_OPEN_CALLS;
+        private LongSupplier nanoClock = System::nanoTime;
+
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        public Builder slidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        public Builder minimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        public Builder openDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        public Builder halfOpenCalls(int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+            return this;
+        }
+
+        Builder nanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        public CircuitBreakerRegistry build() {
+            validate();
+            return new CircuitBreakerRegistry(failureRateThreshold, slidingWindowSize, minimumCalls, openDuration,
+                    halfOpenCalls, nanoClock);
+        }
+
+        private void validate() {
+            if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'failureRateThreshold' must be greater than 0 and at most 1 when creating a CircuitBreakerRegistry.");
+            }
+            if (slidingWindowSize < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'slidingWindowSize' must be at least 1 when creating a CircuitBreakerRegistry.");
+            }
+            if (minimumCalls < 1 || minimumCalls > slidingWindowSize) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'minimumCalls' must be between 1 and 'slidingWindowSize' when creating a CircuitBreakerRegistry.");
+            }
+            if (openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'openDuration' must be positive when creating a CircuitBreakerRegistry.");
+            }
+            if (halfOpenCalls < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'halfOpenCalls' must be at least 1 when creating a CircuitBreakerRegistry.");
+            }
+        }
+    }
+}
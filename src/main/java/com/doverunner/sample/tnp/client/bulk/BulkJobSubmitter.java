@@ -0,0 +1,156 @@
+package com.doverunner.sample.tnp.client.bulk;
+
+import com.doverunner.sample.tnp.client.TnpClient;
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.Job;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class BulkJobSubmitter {
+
+    private final TnpClient client;
+    private final int maxInFlight;
+
+    private BulkJobSubmitter(TnpClient client, int maxInFlight) {
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public Stream<SubmissionResult> submitAll(Iterable<Job> jobs) {
+        return submitAll(StreamSupport.stream(jobs.spliterator(), false));
+    }
+
+    // Results arrive in completion order; consume or close the stream, as only maxInFlight results are held.
+    public Stream<SubmissionResult> submitAll(Stream<Job> jobs) {
+        Submission submission = new Submission(jobs);
+        submission.start();
+        return StreamSupport.stream(submission, false).onClose(submission::cancel);
+    }
+
+    private SubmissionResult submit(Job job) {
+        try {
+            return SubmissionResult.success(job, client.createJob(job));
+        } catch (Throwable e) {
+            // Every submission must enqueue a result: the consumer releases this job's permit only when it takes one.
+            return SubmissionResult.failure(job, e);
+        }
+    }
+
+    private final class Submission extends Spliterators.AbstractSpliterator<SubmissionResult> {
+
+        private final Object endOfResults = new Object();
+        private final Stream<Job> jobs;
+        private final Semaphore permits = new Semaphore(maxInFlight);
+        private final BlockingQueue<Object> results = new ArrayBlockingQueue<>(maxInFlight + 1);
+        private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        private Thread producer;
+        private boolean finished;
+
+        private Submission(Stream<Job> jobs) {
+            super(Long.MAX_VALUE, Spliterator.NONNULL);
+            this.jobs = jobs;
+        }
+
+        private void start() {
+            producer = Thread.ofVirtual().name("tnp-bulk-submitter").start(this::dispatch);
+        }
+
+        private void dispatch() {
+            try (jobs) {
+                Iterator<Job> iterator = jobs.iterator();
+                while (iterator.hasNext()) {
+                    Job job = iterator.next();
+                    permits.acquire();
+                    executor.execute(() -> results.offer(submit(job)));
+                }
+                permits.acquire(maxInFlight);
+                results.offer(endOfResults);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                results.offer(e);
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super SubmissionResult> action) {
+            if (finished) {
+                return false;
+            }
+
+            Object next;
+            try {
+                next = results.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new TnpCustomException(ErrorCode.API_CONNECTION_FAILED,
+                        "Interrupted while waiting for bulk submission results.", e);
+            }
+
+            if (next == endOfResults) {
+                finished = true;
+                return false;
+            }
+            if (next instanceof RuntimeException e) {
+                finished = true;
+                cancel();
+                throw e;
+            }
+            permits.release();
+            action.accept((SubmissionResult) next);
+            return true;
+        }
+
+        private void cancel() {
+            producer.interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    public static class Builder {
+
+        private static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+        private TnpClient client;
+        private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+        public Builder client(TnpClient client) {
+            this.client = client;
+            return this;
+        }
+
+        public Builder maxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public BulkJobSubmitter build() {
+            validate();
+            return new BulkJobSubmitter(client, maxInFlight);
+        }
+
+        private void validate() {
+            if (client == null) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'client' field is required when creating a BulkJobSubmitter.");
+            }
+            if (maxInFlight < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'maxInFlight' must be at least 1 when creating a BulkJobSubmitter.");
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.doverunner.sample.tnp.client.bulk;
+
+import com.doverunner.sample.tnp.client.response.JobCreatedResponse;
+import com.doverunner.sample.tnp.job.Job;
+
+public class SubmissionResult {
+
+    private final Job job;
+    private final JobCreatedResponse response;
+    private final Throwable error;
+
+    private SubmissionResult(Job job, JobCreatedResponse response, Throwable error) {
+        this.job = job;
+        this.response = response;
+        this.error = error;
+    }
+
+    public static SubmissionResult success(Job job, JobCreatedResponse response) {
+        return new SubmissionResult(job, response, null);
+    }
+
+    public static SubmissionResult failure(Job job, Throwable error) {
+        return new SubmissionResult(job, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public JobCreatedResponse getResponse() {
+        return response;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+}
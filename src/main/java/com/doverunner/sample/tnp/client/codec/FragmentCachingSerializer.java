@@ -0,0 +1,118 @@
+package com.doverunner.sample.tnp.client.codec;
+
+import com.doverunner.sample.tnp.job.JsonFragmentCache;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.io.StringWriter;
+
+// Writes a JsonFragmentCache.Holder through the bean serializer once, then replays the cached JSON as a raw value.
+final class FragmentCachingSerializer extends JsonSerializer<Object>
+        implements ContextualSerializer, ResolvableSerializer {
+
+    private static final JsonFactory FALLBACK_FACTORY = new JsonFactory();
+
+    private final JsonSerializer<Object> delegate;
+
+    private FragmentCachingSerializer(JsonSerializer<Object> delegate) {
+        this.delegate = delegate;
+    }
+
+    static BeanSerializerModifier modifier() {
+        return new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                if (JsonFragmentCache.Holder.class.isAssignableFrom(beanDesc.getBeanClass())) {
+                    return new FragmentCachingSerializer((JsonSerializer<Object>) serializer);
+                }
+                return serializer;
+            }
+        };
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        // A TokenBuffer backs convertValue and valueToTree, which need real tokens rather than raw text;
+        // pretty printers and custom escapes depend on the surrounding output, so those are written directly as well.
+        if (generator instanceof TokenBuffer || generator.getPrettyPrinter() != null
+                || generator.getCharacterEscapes() != null) {
+            delegate.serialize(value, generator, provider);
+            return;
+        }
+        JsonFragmentCache cache = ((JsonFragmentCache.Holder) value).jsonFragmentCache();
+        SerializationConfig config = provider.getConfig();
+        int features = generator.getFeatureMask();
+        SerializedString json = cache.get(this, config, features);
+        if (json == null) {
+            json = new SerializedString(render(value, features, generator, provider));
+            cache.put(this, config, features, json);
+        }
+        generator.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(Object value, JsonGenerator generator, SerializerProvider provider,
+                                  TypeSerializer typeSerializer) throws IOException {
+        delegate.serializeWithType(value, generator, provider, typeSerializer);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        if (!(delegate instanceof ContextualSerializer contextual)) {
+            return this;
+        }
+        JsonSerializer<?> resolved = contextual.createContextual(provider, property);
+        return resolved == delegate ? this : new FragmentCachingSerializer((JsonSerializer<Object>) resolved);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (delegate instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, Object value) {
+        return delegate.isEmpty(provider, value);
+    }
+
+    @Override
+    public Class<Object> handledType() {
+        return delegate.handledType();
+    }
+
+    @Override
+    public boolean usesObjectId() {
+        return delegate.usesObjectId();
+    }
+
+    private String render(Object value, int features, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        ObjectCodec codec = generator.getCodec();
+        JsonFactory factory = codec != null ? codec.getFactory() : FALLBACK_FACTORY;
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator fragment = factory.createGenerator(writer)) {
+            fragment.overrideStdFeatures(features, -1);
+            delegate.serialize(value, fragment, provider);
+        }
+        return writer.toString();
+    }
+}
@@ -0,0 +1,146 @@
+package com.doverunner.sample.tnp.client.codec;
+
+import com.doverunner.sample.tnp.job.Job;
+import com.doverunner.sample.tnp.job.Track;
+import com.doverunner.sample.tnp.job.input.Audio;
+import com.doverunner.sample.tnp.job.input.Input;
+import com.doverunner.sample.tnp.job.input.InputFile;
+import com.doverunner.sample.tnp.job.input.Subtitle;
+import com.doverunner.sample.tnp.job.output.ForensicWatermarking;
+import com.doverunner.sample.tnp.job.output.Output;
+import com.doverunner.sample.tnp.job.output.drm.Drm;
+import com.doverunner.sample.tnp.job.output.drm.DrmOption;
+import com.doverunner.sample.tnp.job.output.packaging.Packaging;
+import com.doverunner.sample.tnp.job.output.packaging.PackagingOption;
+import com.doverunner.sample.tnp.job.output.packaging.SubtitleFormat;
+import com.doverunner.sample.tnp.job.output.transcoding.AudioTranscoding;
+import com.doverunner.sample.tnp.job.output.transcoding.VideoTranscoding;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class TnpCodec {
+
+    private static final Logger logger = LoggerFactory.getLogger(TnpCodec.class);
+
+    public static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    // Concrete request model types; abstract property types are resolved per runtime class, so list the leaves.
+    private static final List<Class<?>> MODEL_TYPES = List.of(
+            Job.class, Input.class, InputFile.class, Audio.class, Subtitle.class, Track.class,
+            Output.class, Packaging.class, PackagingOption.class, SubtitleFormat.class, Drm.class, DrmOption.class,
+            ForensicWatermarking.class, VideoTranscoding.class, AudioTranscoding.class
+    );
+
+    private final ObjectMapper mapper;
+    private final boolean bytecodeSerializers;
+    private final boolean fragmentCaching;
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private TnpCodec(ObjectMapper mapper, boolean bytecodeSerializers, boolean fragmentCaching) {
+        this.mapper = mapper;
+        this.bytecodeSerializers = bytecodeSerializers;
+        this.fragmentCaching = fragmentCaching;
+    }
+
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    public boolean isBytecodeSerializers() {
+        return bytecodeSerializers;
+    }
+
+    public boolean isFragmentCaching() {
+        return fragmentCaching;
+    }
+
+    public ObjectWriter writerFor(Class<?> type) {
+        return writerFor(mapper.constructType(type));
+    }
+
+    public ObjectWriter writerFor(JavaType type) {
+        return writers.computeIfAbsent(type, mapper::writerFor);
+    }
+
+    public ObjectReader readerFor(Class<?> type) {
+        return readerFor(mapper.constructType(type));
+    }
+
+    public ObjectReader readerFor(TypeReference<?> type) {
+        return readerFor(mapper.constructType(type));
+    }
+
+    public ObjectReader readerFor(JavaType type) {
+        return readers.computeIfAbsent(type, mapper::readerFor);
+    }
+
+    public TnpCodec warmUp() {
+        long start = System.nanoTime();
+        MODEL_TYPES.forEach(this::writerFor);
+        readerFor(MAP_TYPE);
+        readerFor(Job.class);
+        logger.debug("Warmed up {} writers and {} readers in {} ms", writers.size(), readers.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return this;
+    }
+
+    private static void registerFragmentCaching(ObjectMapper mapper) {
+        mapper.registerModule(new SimpleModule("tnp-fragment-cache")
+                .setSerializerModifier(FragmentCachingSerializer.modifier()));
+    }
+
+    public static class Builder {
+
+        private ObjectMapper mapper;
+        private boolean bytecodeSerializers;
+        private boolean fragmentCaching;
+        private boolean warmUp = true;
+
+        public Builder mapper(ObjectMapper mapper) {
+            this.mapper = mapper;
+            return this;
+        }
+
+        public Builder bytecodeSerializers(boolean bytecodeSerializers) {
+            this.bytecodeSerializers = bytecodeSerializers;
+            return this;
+        }
+
+        public Builder fragmentCaching(boolean fragmentCaching) {
+            this.fragmentCaching = fragmentCaching;
+            return this;
+        }
+
+        public Builder warmUp(boolean warmUp) {
+            this.warmUp = warmUp;
+            return this;
+        }
+
+        public TnpCodec build() {
+            ObjectMapper codecMapper = mapper != null ? mapper : new ObjectMapper();
+            if ((bytecodeSerializers || fragmentCaching) && mapper != null) {
+                // Leave the caller's mapper as it was; the codec registers its modules on its own copy.
+                codecMapper = mapper.copy();
+            }
+            if (bytecodeSerializers) {
+                codecMapper.registerModule(new BlackbirdModule());
+            }
+            if (fragmentCaching) {
+                registerFragmentCaching(codecMapper);
+            }
+            TnpCodec codec = new TnpCodec(codecMapper, bytecodeSerializers, fragmentCaching);
+            return warmUp ? codec.warmUp() : codec;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.doverunner.sample.tnp.client.limit;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+    private static final double LATENCY_SMOOTHING = 0.05;
+
+    public enum Outcome {
+        SUCCESS, OVERLOAD, IGNORE
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final LongSupplier nanoClock;
+    private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+
+    private double limit;
+    private int inFlight;
+    private long epoch;
+    private double baselineLatencyNanos;
+
+    private AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                       double latencyTolerance, LongSupplier nanoClock) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.nanoClock = nanoClock;
+    }
+
+    public Permit acquire() throws InterruptedException {
+        CompletableFuture<Permit> waiter = acquireAsync();
+        try {
+            return waiter.get();
+        } catch (InterruptedException e) {
+            if (!waiter.cancel(false)) {
+                waiter.join().release(Outcome.IGNORE);
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public CompletableFuture<Permit> acquireAsync() {
+        synchronized (this) {
+            if (waiters.isEmpty() && inFlight < currentLimit()) {
+                inFlight++;
+                return CompletableFuture.completedFuture(new Permit(epoch, nanoClock.getAsLong()));
+            }
+            CompletableFuture<Permit> waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+            return waiter;
+        }
+    }
+
+    public synchronized int getLimit() {
+        return currentLimit();
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private void onRelease(Permit permit, Outcome outcome) {
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        List<Permit> permits = new ArrayList<>();
+
+        synchronized (this) {
+            int previousLimit = currentLimit();
+            int inFlightAtRelease = inFlight--;
+            if (outcome == Outcome.SUCCESS) {
+                onSuccess(permit, inFlightAtRelease);
+            } else if (outcome == Outcome.OVERLOAD) {
+                onOverload(permit);
+            }
+            if (currentLimit() != previousLimit) {
+                logger.debug("Concurrency limit changed from {} to {}", previousLimit, currentLimit());
+            }
+
+            while (inFlight < currentLimit() && !waiters.isEmpty()) {
+                CompletableFuture<Permit> waiter = waiters.poll();
+                if (waiter.isDone()) {
+                    continue;
+                }
+                inFlight++;
+                granted.add(waiter);
+                permits.add(new Permit(epoch, nanoClock.getAsLong()));
+            }
+        }
+
+        for (int i = 0; i < granted.size(); i++) {
+            if (!granted.get(i).complete(permits.get(i))) {
+                permits.get(i).release(Outcome.IGNORE);
+            }
+        }
+    }
+
+    private void onSuccess(Permit permit, int inFlightAtRelease) {
+        double latency = nanoClock.getAsLong() - permit.startNanos;
+        if (baselineLatencyNanos == 0) {
+            baselineLatencyNanos = latency;
+        }
+
+        if (latency > baselineLatencyNanos * latencyTolerance) {
+            onOverload(permit);
+        } else if (inFlightAtRelease * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        baselineLatencyNanos += (latency - baselineLatencyNanos) * LATENCY_SMOOTHING;
+    }
+
+    private void onOverload(Permit permit) {
+        // Only the first signal of a congestion event backs off; permits granted before it carry an older epoch.
+        if (permit.epoch != epoch) {
+            return;
+        }
+        epoch++;
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    public final class Permit {
+
+        private final long epoch;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long epoch, long startNanos) {
+            this.epoch = epoch;
+            this.startNanos = startNanos;
+        }
+
+        public void release(Outcome outcome) {
+            if (released.compareAndSet(false, true)) {
+                onRelease(this, outcome);
+            }
+        }
+    }
+
+    public static class Builder {
+
+        private static final int DEFAULT_INITIAL_LIMIT = 16;
+        private static final int DEFAULT_MIN_LIMIT = 1;
+        private static final int DEFAULT_MAX_LIMIT = 256;
+        private static final double DEFAULT_BACKOFF_RATIO = 0.5;
+        private static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+        private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+        private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+        private LongSupplier nanoClock = System::nanoTime;
+
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        public Builder backoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        public Builder latencyTolerance(double latencyTolerance) {
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        Builder nanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        public AdaptiveConcurrencyLimiter build() {
+            validate();
+            return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance,
+                    nanoClock);
+        }
+
+        private void validate() {
+            if (minLimit < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'minLimit' must be at least 1 when creating an AdaptiveConcurrencyLimiter.");
+            }
+            if (maxLimit < minLimit) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'maxLimit' must be greater than or equal to 'minLimit' when creating an AdaptiveConcurrencyLimiter.");
+            }
+            if (initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'initialLimit' must be between 'minLimit' and 'maxLimit' when creating an AdaptiveConcurrencyLimiter.");
+            }
+            if (backoffRatio <= 0 || backoffRatio >= 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'backoffRatio' must be between 0 and 1 when creating an AdaptiveConcurrencyLimiter.");
+            }
+            if (latencyTolerance <= 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'latencyTolerance' must be greater than 1 when creating an AdaptiveConcurrencyLimiter.");
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.doverunner.sample.tnp.client.metrics;
+
+import com.doverunner.sample.tnp.constant.RegionCode;
+import com.doverunner.sample.tnp.constant.web.ApiUrl;
+
+final class NoopMetrics implements TnpMetrics {
+
+    static final NoopMetrics INSTANCE = new NoopMetrics();
+
+    private NoopMetrics() {
+    }
+
+    @Override
+    public void requestStarted(ApiUrl apiUrl, RegionCode region) {
+    }
+
+    @Override
+    public void requestCompleted(ApiUrl apiUrl, RegionCode region, int statusCode, long latencyNanos) {
+    }
+}
@@ -0,0 +1,292 @@
+package com.doverunner.sample.tnp.client.metrics;
+
+import com.doverunner.sample.tnp.constant.RegionCode;
+import com.doverunner.sample.tnp.constant.web.ApiUrl;
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class PrometheusMetrics implements TnpMetrics, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrometheusMetrics.class);
+
+    private static final String METHOD_GET = "GET";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    private static final String DEFAULT_REGION = "default";
+    private static final String[] STATUS_CLASSES = {"error", "1xx", "2xx", "3xx", "4xx", "5xx"};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Map<ApiUrl, Map<String, EndpointMetrics>> endpoints = new EnumMap<>(ApiUrl.class);
+    private final List<Gauge> gauges = new CopyOnWriteArrayList<>();
+    private final long[] bucketBoundsNanos;
+    private final InetSocketAddress address;
+    private final String path;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private PrometheusMetrics(List<Duration> buckets, InetSocketAddress address, String path) {
+        for (ApiUrl apiUrl : ApiUrl.values()) {
+            endpoints.put(apiUrl, new ConcurrentHashMap<>());
+        }
+        this.bucketBoundsNanos = buckets.stream().mapToLong(Duration::toNanos).sorted().toArray();
+        this.address = address;
+        this.path = path;
+    }
+
+    @Override
+    public void requestStarted(ApiUrl apiUrl, RegionCode region) {
+        metricsFor(apiUrl, region).inFlight.increment();
+    }
+
+    @Override
+    public void requestCompleted(ApiUrl apiUrl, RegionCode region, int statusCode, long latencyNanos) {
+        EndpointMetrics metrics = metricsFor(apiUrl, region);
+        metrics.inFlight.decrement();
+        int statusClass = statusCode / 100;
+        metrics.statusCounts[statusClass >= 1 && statusClass <= 5 ? statusClass : 0].increment();
+        metrics.latency.record(latencyNanos);
+    }
+
+    @Override
+    public void gauge(String name, String help, DoubleSupplier value) {
+        gauges.add(new Gauge(name, help, value));
+    }
+
+    public LatencyHistogram.Snapshot getLatency(ApiUrl apiUrl, RegionCode region) {
+        return metricsFor(apiUrl, region).latency.snapshot();
+    }
+
+    public synchronized PrometheusMetrics start() {
+        if (server != null) {
+            return this;
+        }
+        try {
+            server = HttpServer.create(address, 0);
+        } catch (IOException e) {
+            throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                    "Failed to bind the PrometheusMetrics endpoint to " + address + ".", e);
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(path, this::handle);
+        server.start();
+        logger.info("Serving TnP client metrics on {}{}", server.getAddress(), path);
+        return this;
+    }
+
+    public synchronized InetSocketAddress getAddress() {
+        return server != null ? server.getAddress() : address;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.close();
+            server = null;
+        }
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+
+        header(out, "tnp_requests_total", "counter", "TnP API requests by endpoint, region and status class.");
+        forEachEndpoint((apiUrl, region, metrics) -> {
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                long count = metrics.statusCounts[i].sum();
+                if (count > 0) {
+                    sample(out, "tnp_requests_total", apiUrl, region, "status", STATUS_CLASSES[i], count);
+                }
+            }
+        });
+
+        header(out, "tnp_requests_in_flight", "gauge", "TnP API requests currently awaiting a response.");
+        forEachEndpoint((apiUrl, region, metrics) ->
+                sample(out, "tnp_requests_in_flight", apiUrl, region, null, null, metrics.inFlight.sum()));
+
+        header(out, "tnp_request_duration_seconds", "histogram", "TnP API request latency.");
+        forEachEndpoint((apiUrl, region, metrics) -> {
+            LatencyHistogram.Snapshot snapshot = metrics.latency.snapshot();
+            for (long bound : bucketBoundsNanos) {
+                sample(out, "tnp_request_duration_seconds_bucket", apiUrl, region, "le",
+                        formatSeconds(bound), snapshot.countAtOrBelow(bound));
+            }
+            sample(out, "tnp_request_duration_seconds_bucket", apiUrl, region, "le", "+Inf", snapshot.getCount());
+            out.append("tnp_request_duration_seconds_sum");
+            labels(out, apiUrl, region, null, null);
+            out.append(' ').append(formatSeconds(snapshot.getSum())).append('\n');
+            sample(out, "tnp_request_duration_seconds_count", apiUrl, region, null, null, snapshot.getCount());
+        });
+
+        for (Gauge gauge : gauges) {
+            header(out, gauge.name, "gauge", gauge.help);
+            out.append(gauge.name).append(' ').append(gauge.value.getAsDouble()).append('\n');
+        }
+        return out.toString();
+    }
+
+    private EndpointMetrics metricsFor(ApiUrl apiUrl, RegionCode region) {
+        String regionLabel = region != null ? region.name() : DEFAULT_REGION;
+        Map<String, EndpointMetrics> regions = endpoints.get(apiUrl);
+        EndpointMetrics metrics = regions.get(regionLabel);
+        return metrics != null ? metrics : regions.computeIfAbsent(regionLabel, key -> new EndpointMetrics());
+    }
+
+    private void forEachEndpoint(EndpointVisitor visitor) {
+        endpoints.forEach((apiUrl, regions) ->
+                regions.forEach((region, metrics) -> visitor.visit(apiUrl, region, metrics)));
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, ApiUrl apiUrl, String region, String extraLabel,
+                               String extraValue, long value) {
+        out.append(name);
+        labels(out, apiUrl, region, extraLabel, extraValue);
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static void labels(StringBuilder out, ApiUrl apiUrl, String region, String extraLabel,
+                               String extraValue) {
+        out.append("{endpoint=\"").append(apiUrl.name()).append("\",region=\"").append(region).append('"');
+        if (extraLabel != null) {
+            out.append(',').append(extraLabel).append("=\"").append(extraValue).append('"');
+        }
+        out.append('}');
+    }
+
+    private static String formatSeconds(long nanos) {
+        return Double.toString(nanos / NANOS_PER_SECOND);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!METHOD_GET.equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().add("Allow", METHOD_GET);
+                exchange.sendResponseHeaders(HTTP_METHOD_NOT_ALLOWED, -1);
+                return;
+            }
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(HTTP_OK, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface EndpointVisitor {
+        void visit(ApiUrl apiUrl, String region, EndpointMetrics metrics);
+    }
+
+    private static final class EndpointMetrics {
+
+        private final LongAdder inFlight = new LongAdder();
+        private final LongAdder[] statusCounts = new LongAdder[STATUS_CLASSES.length];
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private EndpointMetrics() {
+            Arrays.setAll(statusCounts, i -> new LongAdder());
+        }
+    }
+
+    private static final class Gauge {
+
+        private final String name;
+        private final String help;
+        private final DoubleSupplier value;
+
+        private Gauge(String name, String help, DoubleSupplier value) {
+            this.name = name;
+            this.help = help;
+            this.value = value;
+        }
+    }
+
+    public static class Builder {
+
+        private static final String DEFAULT_HOST = "127.0.0.1";
+        private static final int DEFAULT_PORT = 9464;
+        private static final String DEFAULT_PATH = "/metrics";
+        private static final List<Duration> DEFAULT_BUCKETS = List.of(
+                Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+                Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1),
+                Duration.ofMillis(2500), Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(30)
+        );
+
+        private String host = DEFAULT_HOST;
+        private int port = DEFAULT_PORT;
+        private String path = DEFAULT_PATH;
+        private List<Duration> buckets = DEFAULT_BUCKETS;
+
+        public Builder host(String host) {
+            this.host = host;
+            return this;
+        }
+
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder path(String path) {
+            this.path = path;
+            return this;
+        }
+
+        public Builder buckets(List<Duration> buckets) {
+            this.buckets = buckets;
+            return this;
+        }
+
+        public PrometheusMetrics build() {
+            validate();
+            return new PrometheusMetrics(buckets, new InetSocketAddress(host, port), path);
+        }
+
+        private void validate() {
+            if (host == null || host.isBlank()) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'host' field is required when creating a PrometheusMetrics.");
+            }
+            if (port < 0 || port > 65535) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'port' must be between 0 and 65535 when creating a PrometheusMetrics.");
+            }
+            if (path == null || !path.startsWith("/")) {
+                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                        "The 'path' must start with '/' when creating a PrometheusMetrics.");
+            }
+            if (buckets == null || buckets.isEmpty()
+                    || buckets.stream().anyMatch(bucket -> bucket == null || bucket.isNegative() || bucket.isZero())) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'buckets' must be non-empty positive durations when creating a PrometheusMetrics.");
+            }
+        }
+    }
+}
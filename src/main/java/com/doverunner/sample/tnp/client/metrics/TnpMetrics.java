@@ -0,0 +1,21 @@
+package com.doverunner.sample.tnp.client.metrics;
+
+import com.doverunner.sample.tnp.constant.RegionCode;
+import com.doverunner.sample.tnp.constant.web.ApiUrl;
+import java.util.function.DoubleSupplier;
+
+public interface TnpMetrics {
+
+    static TnpMetrics noop() {
+        return NoopMetrics.INSTANCE;
+    }
+
+    // region is null when the client calls a single base URI without a RegionRouter.
+    void requestStarted(ApiUrl apiUrl, RegionCode region);
+
+    // statusCode is 0 when no HTTP response was received.
+    void requestCompleted(ApiUrl apiUrl, RegionCode region, int statusCode, long latencyNanos);
+
+    default void gauge(String name, String help, DoubleSupplier value) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.doverunner.sample.tnp.client.notify;
+
+import com.doverunner.sample.tnp.job.JobStatus;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class JobNotification {
+
+    private final String jobId;
+    private final String jobName;
+    private final String contentId;
+    private final JobStatus status;
+    private final String message;
+    private final Instant receivedAt;
+    private final Map<String, Object> attributes;
+
+    public JobNotification(String jobId, String jobName, String contentId, JobStatus status, String message,
+                           Instant receivedAt, Map<String, Object> attributes) {
+        this.jobId = jobId;
+        this.jobName = jobName;
+        this.contentId = contentId;
+        this.status = status;
+        this.message = message;
+        this.receivedAt = receivedAt;
+        this.attributes = attributes;
+    }
+
+    @SuppressWarnings("unchecked")
+    static JobNotification from(Map<String, Object> payload, Instant receivedAt) {
+        Map<String, Object> body = payload.get("data") instanceof Map<?, ?> data
+                ? (Map<String, Object>) data
+                : payload;
+        Object jobId = body.get("job_id") != null ? body.get("job_id") : body.get("id");
+        Object message = body.get("message") != null ? body.get("message") : body.get("error_message");
+        return new JobNotification(
+                stringOf(jobId),
+                stringOf(body.get("job_name")),
+                stringOf(body.get("content_id")),
+                JobStatus.from(stringOf(body.get("status"))),
+                stringOf(message),
+                receivedAt,
+                Collections.unmodifiableMap(new LinkedHashMap<>(body))
+        );
+    }
+
+    private static String stringOf(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public String getContentId() {
+        return contentId;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Instant getReceivedAt() {
+        return receivedAt;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+}
@@ -0,0 +1,7 @@
+package com.doverunner.sample.tnp.client.notify;
+
+@FunctionalInterface
+public interface JobNotificationListener {
+
+    void onNotification(JobNotification notification);
+}
@@ -0,0 +1,292 @@
+package com.doverunner.sample.tnp.client.notify;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class JobNotificationReceiver implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobNotificationReceiver.class);
+
+    private static final String METHOD_POST = "POST";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String SIGNATURE_PREFIX = "sha256=";
+    private static final int HTTP_NO_CONTENT = 204;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_UNAUTHORIZED = 401;
+    private static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    private static final int HTTP_PAYLOAD_TOO_LARGE = 413;
+    private static final TypeReference<Object> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper mapper;
+    private final int maxBodyBytes;
+    private final Clock clock;
+    private final SecretKeySpec secretKey;
+    private final String signatureHeader;
+    private final List<JobNotificationListener> listeners = new CopyOnWriteArrayList<>();
+
+    private JobNotificationReceiver(InetSocketAddress address, String path, ObjectMapper mapper, int maxBodyBytes,
+                                    Clock clock, SecretKeySpec secretKey, String signatureHeader) throws IOException {
+        this.mapper = mapper;
+        this.maxBodyBytes = maxBodyBytes;
+        this.clock = clock;
+        this.secretKey = secretKey;
+        this.signatureHeader = signatureHeader;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(address, 0);
+        this.server.setExecutor(executor);
+        this.server.createContext(path, this::handle);
+    }
+
+    public JobNotificationReceiver addListener(JobNotificationListener listener) {
+        if (listener == null) {
+            throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                    "The 'listener' field is required when registering a JobNotificationListener.");
+        }
+        listeners.add(listener);
+        return this;
+    }
+
+    public void removeListener(JobNotificationListener listener) {
+        listeners.remove(listener);
+    }
+
+    public JobNotificationReceiver start() {
+        server.start();
+        logger.info("Listening for TnP job notifications on {}", server.getAddress());
+        if (secretKey == null && !server.getAddress().getAddress().isLoopbackAddress()) {
+            logger.warn("Job notifications on {} are accepted without a signature; set a 'secret' to verify them",
+                    server.getAddress());
+        }
+        return this;
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!METHOD_POST.equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().add("Allow", METHOD_POST);
+                exchange.sendResponseHeaders(HTTP_METHOD_NOT_ALLOWED, -1);
+                return;
+            }
+
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readNBytes(maxBodyBytes + 1);
+            }
+            if (body.length > maxBodyBytes) {
+                exchange.sendResponseHeaders(HTTP_PAYLOAD_TOO_LARGE, -1);
+                return;
+            }
+            if (secretKey != null && !hasValidSignature(exchange, body)) {
+                logger.warn("Rejected a job notification with a missing or invalid signature from {}",
+                        exchange.getRemoteAddress());
+                exchange.sendResponseHeaders(HTTP_UNAUTHORIZED, -1);
+                return;
+            }
+
+            List<JobNotification> notifications;
+            try {
+                notifications = parse(body, clock.instant());
+            } catch (JsonProcessingException e) {
+                logger.warn("Rejected a malformed job notification from {}: {}", exchange.getRemoteAddress(),
+                        e.getOriginalMessage());
+                exchange.sendResponseHeaders(HTTP_BAD_REQUEST, -1);
+                return;
+            }
+
+            // Acknowledge first so slow listeners never make the sender time out and redeliver.
+            exchange.sendResponseHeaders(HTTP_NO_CONTENT, -1);
+            exchange.close();
+            notifications.forEach(this::dispatch);
+        }
+    }
+
+    // The sender signs the raw body with HMAC-SHA256 and sends it hex encoded, optionally prefixed with "sha256=".
+    private boolean hasValidSignature(HttpExchange exchange, byte[] body) {
+        String signature = exchange.getRequestHeaders().getFirst(signatureHeader);
+        if (signature == null) {
+            return false;
+        }
+        if (signature.regionMatches(true, 0, SIGNATURE_PREFIX, 0, SIGNATURE_PREFIX.length())) {
+            signature = signature.substring(SIGNATURE_PREFIX.length());
+        }
+        byte[] expected;
+        try {
+            expected = HexFormat.of().parseHex(signature.trim());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(sign(secretKey, body), expected);
+    }
+
+    private static byte[] sign(SecretKeySpec secretKey, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<JobNotification> parse(byte[] body, Instant receivedAt) throws IOException {
+        Object payload = mapper.readValue(body, PAYLOAD_TYPE);
+        List<JobNotification> notifications = new ArrayList<>();
+        if (payload instanceof Map<?, ?> map) {
+            notifications.add(JobNotification.from((Map<String, Object>) map, receivedAt));
+        } else if (payload instanceof List<?> list) {
+            for (Object item : list) {
+                if (item instanceof Map<?, ?> map) {
+                    notifications.add(JobNotification.from((Map<String, Object>) map, receivedAt));
+                }
+            }
+        }
+        return notifications;
+    }
+
+    private void dispatch(JobNotification notification) {
+        for (JobNotificationListener listener : listeners) {
+            try {
+                listener.onNotification(notification);
+            } catch (RuntimeException e) {
+                logger.warn("Job notification listener failed for job {}", notification.getJobId(), e);
+            }
+        }
+    }
+
+    public static class Builder {
+
+        private static final String DEFAULT_HOST = "127.0.0.1";
+        private static final int DEFAULT_PORT = 8080;
+        private static final String DEFAULT_PATH = "/tnp/notifications";
+        private static final int DEFAULT_MAX_BODY_BYTES = 64 * 1024;
+        private static final String DEFAULT_SIGNATURE_HEADER = "X-Tnp-Signature";
+
+        private String host = DEFAULT_HOST;
+        private int port = DEFAULT_PORT;
+        private String path = DEFAULT_PATH;
+        private ObjectMapper mapper;
+        private int maxBodyBytes = DEFAULT_MAX_BODY_BYTES;
+        private Clock clock = Clock.systemUTC();
+        private String secret;
+        private String signatureHeader = DEFAULT_SIGNATURE_HEADER;
+
+        public Builder host(String host) {
+            this.host = host;
+            return this;
+        }
+
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder path(String path) {
+            this.path = path;
+            return this;
+        }
+
+        public Builder mapper(ObjectMapper mapper) {
+            this.mapper = mapper;
+            return this;
+        }
+
+        public Builder maxBodyBytes(int maxBodyBytes) {
+            this.maxBodyBytes = maxBodyBytes;
+            return this;
+        }
+
+        public Builder secret(String secret) {
+            this.secret = secret;
+            return this;
+        }
+
+        public Builder signatureHeader(String signatureHeader) {
+            this.signatureHeader = signatureHeader;
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public JobNotificationReceiver build() {
+            validate();
+            SecretKeySpec secretKey = secret != null
+                    ? new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM)
+                    : null;
+            try {
+                return new JobNotificationReceiver(new InetSocketAddress(host, port), path,
+                        mapper != null ? mapper : new ObjectMapper(), maxBodyBytes, clock, secretKey,
+                        signatureHeader);
+            } catch (IOException e) {
+                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                        "Failed to bind the JobNotificationReceiver to " + host + ":" + port + ".", e);
+            }
+        }
+
+        private void validate() {
+            if (host == null || host.isBlank()) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'host' field is required when creating a JobNotificationReceiver.");
+            }
+            if (port < 0 || port > 65535) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'port' must be between 0 and 65535 when creating a JobNotificationReceiver.");
+            }
+            if (path == null || !path.startsWith("/")) {
+                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                        "The 'path' must start with '/' when creating a JobNotificationReceiver.");
+            }
+            if (maxBodyBytes < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'maxBodyBytes' must be at least 1 when creating a JobNotificationReceiver.");
+            }
+            if (secret != null && secret.isEmpty()) {
+                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                        "The 'secret' must not be empty when creating a JobNotificationReceiver.");
+            }
+            if (signatureHeader == null || signatureHeader.isBlank()) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'signatureHeader' field is required when creating a JobNotificationReceiver.");
+            }
+        }
+    }
+}
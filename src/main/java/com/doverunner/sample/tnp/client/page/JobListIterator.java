@@ -0,0 +1,175 @@
+package com.doverunner.sample.tnp.client.page;
+
+import com.doverunner.sample.tnp.client.response.JobListPage;
+import com.doverunner.sample.tnp.client.response.JobSummary;
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class JobListIterator implements Iterator<JobSummary>, AutoCloseable {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int DEFAULT_PAGE_WINDOW = 2;
+
+    @FunctionalInterface
+    public interface PageFetcher {
+        CompletableFuture<JobListPage> fetch(int page, int size);
+    }
+
+    private final PageFetcher fetcher;
+    private final int pageSize;
+    private final int pageWindow;
+    private final int startPage;
+    private final Deque<CompletableFuture<JobListPage>> window = new ArrayDeque<>();
+
+    private int nextPage;
+    private int awaitedPage;
+    private Iterator<JobSummary> current = Collections.emptyIterator();
+    private boolean lastPageReached;
+    private boolean closed;
+
+    private JobListIterator(PageFetcher fetcher, int startPage, int pageSize, int pageWindow) {
+        this.fetcher = fetcher;
+        this.startPage = startPage;
+        this.nextPage = startPage;
+        this.awaitedPage = startPage;
+        this.pageSize = pageSize;
+        this.pageWindow = pageWindow;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (lastPageReached || closed) {
+                return false;
+            }
+            fillWindow();
+            int requested = awaitedPage++;
+            JobListPage page = await(window.poll());
+            List<JobSummary> items = page.getItems();
+            // A page echoing another number means the server ignored the paging parameters; its jobs were seen.
+            if (page.getPage() != null && page.getPage() != requested) {
+                items = List.of();
+            }
+            if (items.size() < pageSize || reachedTotal(requested, page.getTotal())) {
+                lastPageReached = true;
+                cancelWindow();
+            }
+            current = items.iterator();
+            // Request the following pages now so they load while this one is being consumed.
+            fillWindow();
+        }
+        return true;
+    }
+
+    @Override
+    public JobSummary next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        current = Collections.emptyIterator();
+        cancelWindow();
+    }
+
+    private boolean reachedTotal(int page, Long total) {
+        return total != null && (long) (page - startPage + 1) * pageSize >= total;
+    }
+
+    private void fillWindow() {
+        while (!lastPageReached && !closed && window.size() < pageWindow) {
+            window.add(fetchPage(nextPage++));
+        }
+    }
+
+    private CompletableFuture<JobListPage> fetchPage(int page) {
+        try {
+            return fetcher.fetch(page, pageSize);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private JobListPage await(CompletableFuture<JobListPage> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void cancelWindow() {
+        CompletableFuture<JobListPage> page;
+        while ((page = window.poll()) != null) {
+            page.cancel(false);
+        }
+    }
+
+    public static class Builder {
+
+        private PageFetcher fetcher;
+        private int startPage = 1;
+        private int pageSize = DEFAULT_PAGE_SIZE;
+        private int pageWindow = DEFAULT_PAGE_WINDOW;
+
+        public Builder fetcher(PageFetcher fetcher) {
+            this.fetcher = fetcher;
+            return this;
+        }
+
+        public Builder startPage(int startPage) {
+            this.startPage = startPage;
+            return this;
+        }
+
+        public Builder pageSize(int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public Builder pageWindow(int pageWindow) {
+            this.pageWindow = pageWindow;
+            return this;
+        }
+
+        public JobListIterator build() {
+            validate();
+            return new JobListIterator(fetcher, startPage, pageSize, pageWindow);
+        }
+
+        private void validate() {
+            if (fetcher == null) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'fetcher' field is required when creating a JobListIterator.");
+            }
+            if (startPage < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'startPage' must be at least 1 when creating a JobListIterator.");
+            }
+            if (pageSize < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'pageSize' must be at least 1 when creating a JobListIterator.");
+            }
+            if (pageWindow < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'pageWindow' must be at least 1 when creating a JobListIterator.");
+            }
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.doverunner.sample.tnp.client.poll;
+
+import com.doverunner.sample.tnp.client.TnpClient;
+import com.doverunner.sample.tnp.client.response.JobDetail;
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpApiException;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.JobStatus;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class JobStatusPoller implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobStatusPoller.class);
+    private static final int HTTP_NOT_FOUND = 404;
+
+    private final TnpClient client;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final long initialIntervalMillis;
+    private final long maxIntervalMillis;
+    private final double backoffMultiplier;
+    private final double jitterRatio;
+    private final Semaphore permits;
+    private final Queue<Watch> pending = new ConcurrentLinkedQueue<>();
+    private final Map<String, Watch> watches = new ConcurrentHashMap<>();
+    private final AtomicInteger drainWip = new AtomicInteger();
+    private volatile boolean closed;
+
+    private JobStatusPoller(TnpClient client, ScheduledExecutorService scheduler, boolean ownsScheduler,
+                            Duration initialInterval, Duration maxInterval, double backoffMultiplier,
+                            double jitterRatio, int maxInFlight) {
+        this.client = client;
+        this.scheduler = scheduler;
+        this.ownsScheduler = ownsScheduler;
+        this.initialIntervalMillis = initialInterval.toMillis();
+        this.maxIntervalMillis = maxInterval.toMillis();
+        this.backoffMultiplier = backoffMultiplier;
+        this.jitterRatio = jitterRatio;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    public CompletableFuture<JobDetail> watch(String jobId) {
+        return watch(jobId, status -> {});
+    }
+
+    public CompletableFuture<JobDetail> watch(String jobId, Consumer<JobStatus> listener) {
+        if (jobId == null || jobId.isBlank()) {
+            throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                    "The 'jobId' field is required when watching a Job.");
+        }
+        if (closed) {
+            throw new TnpCustomException(ErrorCode.INVALID_VALUE, "The JobStatusPoller has already been closed.");
+        }
+
+        boolean[] created = new boolean[1];
+        Watch watch = watches.computeIfAbsent(jobId, id -> {
+            created[0] = true;
+            return new Watch(id);
+        });
+        if (listener != null) {
+            watch.listeners.add(listener);
+        }
+        if (created[0]) {
+            watch.result.whenComplete((detail, throwable) -> {
+                watches.remove(jobId, watch);
+                ScheduledFuture<?> scheduled = watch.scheduled;
+                if (scheduled != null) {
+                    scheduled.cancel(false);
+                }
+            });
+            schedule(watch);
+        }
+        return watch.result;
+    }
+
+    public int getWatchedCount() {
+        return watches.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        watches.values().forEach(watch -> watch.result.cancel(false));
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void schedule(Watch watch) {
+        if (closed || watch.result.isDone()) {
+            return;
+        }
+        long delay = jittered(watch.intervalMillis);
+        try {
+            watch.scheduled = scheduler.schedule(() -> dispatch(watch), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            watch.result.cancel(false);
+        }
+    }
+
+    private void dispatch(Watch watch) {
+        if (watch.result.isDone()) {
+            return;
+        }
+        // Enqueue before competing for a permit, so a poll that releases the last permit in between still finds it.
+        pending.add(watch);
+        drainPending();
+    }
+
+    // Serialized drain loop: a poll that fails synchronously releases its permit and calls back in here on the
+    // same stack, which only bumps drainWip so the outer loop picks up the next watch instead of recursing.
+    private void drainPending() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            while (!pending.isEmpty() && permits.tryAcquire()) {
+                Watch next = pending.poll();
+                if (next == null || next.result.isDone()) {
+                    permits.release();
+                    continue;
+                }
+                poll(next);
+            }
+        } while (drainWip.decrementAndGet() != 0);
+    }
+
+    private void poll(Watch watch) {
+        CompletableFuture<JobDetail> detail;
+        try {
+            detail = client.getJobDetailAsync(watch.jobId);
+        } catch (RuntimeException e) {
+            detail = CompletableFuture.failedFuture(e);
+        }
+
+        detail.whenComplete((response, throwable) -> {
+            try {
+                if (throwable != null) {
+                    onFailure(watch, throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                } else {
+                    onResponse(watch, response);
+                }
+            } finally {
+                permits.release();
+                drainPending();
+            }
+        });
+    }
+
+    private void onResponse(Watch watch, JobDetail detail) {
+        JobStatus status = detail.getStatus();
+        if (status != watch.lastStatus) {
+            watch.lastStatus = status;
+            watch.intervalMillis = initialIntervalMillis;
+            notifyListeners(watch, status);
+        } else {
+            watch.intervalMillis = nextInterval(watch.intervalMillis);
+        }
+
+        if (status.isTerminal()) {
+            watch.result.complete(detail);
+            return;
+        }
+        schedule(watch);
+    }
+
+    private void onFailure(Watch watch, Throwable failure) {
+        if (failure instanceof TnpApiException e && e.getStatusCode() == HTTP_NOT_FOUND) {
+            watch.result.completeExceptionally(failure);
+            return;
+        }
+        watch.intervalMillis = nextInterval(watch.intervalMillis);
+        logger.warn("Failed to poll job {}; next attempt in about {} ms: {}", watch.jobId, watch.intervalMillis,
+                failure.getMessage());
+        schedule(watch);
+    }
+
+    private void notifyListeners(Watch watch, JobStatus status) {
+        for (Consumer<JobStatus> listener : watch.listeners) {
+            try {
+                listener.accept(status);
+            } catch (RuntimeException e) {
+                logger.warn("Job status listener failed for job {}", watch.jobId, e);
+            }
+        }
+    }
+
+    private long nextInterval(long intervalMillis) {
+        return Math.min(maxIntervalMillis, Math.round(intervalMillis * backoffMultiplier));
+    }
+
+    private long jittered(long intervalMillis) {
+        // Spread jobs submitted together so their polls do not arrive at the API in lockstep.
+        if (jitterRatio == 0) {
+            return intervalMillis;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitterRatio, jitterRatio);
+        return Math.max(1, Math.round(intervalMillis * factor));
+    }
+
+    private final class Watch {
+
+        private final String jobId;
+        private final CompletableFuture<JobDetail> result = new CompletableFuture<>();
+        private final List<Consumer<JobStatus>> listeners = new CopyOnWriteArrayList<>();
+        private volatile JobStatus lastStatus;
+        private volatile long intervalMillis = initialIntervalMillis;
+        private volatile ScheduledFuture<?> scheduled;
+
+        private Watch(String jobId) {
+            this.jobId = jobId;
+        }
+    }
+
+    public static class Builder {
+
+        private static final Duration DEFAULT_INITIAL_INTERVAL = Duration.ofSeconds(5);
+        private static final Duration DEFAULT_MAX_INTERVAL = Duration.ofMinutes(2);
+        private static final double DEFAULT_BACKOFF_MULTIPLIER = 1.5;
+        private static final double DEFAULT_JITTER_RATIO = 0.1;
+        private static final int DEFAULT_MAX_IN_FLIGHT = 32;
+
+        private TnpClient client;
+        private ScheduledExecutorService scheduler;
+        private Duration initialInterval = DEFAULT_INITIAL_INTERVAL;
+        private Duration maxInterval = DEFAULT_MAX_INTERVAL;
+        private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+        private double jitterRatio = DEFAULT_JITTER_RATIO;
+        private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+        public Builder client(TnpClient client) {
+            this.client = client;
+            return this;
+        }
+
+        public Builder scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        public Builder initialInterval(Duration initialInterval) {
+            this.initialInterval = initialInterval;
+            return this;
+        }
+
+        public Builder maxInterval(Duration maxInterval) {
+            this.maxInterval = maxInterval;
+            return this;
+        }
+
+        public Builder backoffMultiplier(double backoffMultiplier) {
+            this.backoffMultiplier = backoffMultiplier;
+            return this;
+        }
+
+        public Builder jitterRatio(double jitterRatio) {
+            this.jitterRatio = jitterRatio;
+            return this;
+        }
+
+        public Builder maxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public JobStatusPoller build() {
+            validate();
+            boolean ownsScheduler = scheduler == null;
+            ScheduledExecutorService executor = ownsScheduler
+                    ? Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                            .name("tnp-job-poller")
+                            .daemon(true)
+                            .factory())
+                    : scheduler;
+            return new JobStatusPoller(client, executor, ownsScheduler, initialInterval, maxInterval,
+                    backoffMultiplier, jitterRatio, maxInFlight);
+        }
+
+        private void validate() {
+            if (client == null) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'client' field is required when creating a JobStatusPoller.");
+            }
+            if (initialInterval == null || initialInterval.toMillis() < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'initialInterval' must be at least 1 ms when creating a JobStatusPoller.");
+            }
+            if (maxInterval == null || maxInterval.compareTo(initialInterval) < 0) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'maxInterval' must be greater than or equal to 'initialInterval' when creating a JobStatusPoller.");
+            }
+            if (backoffMultiplier < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'backoffMultiplier' must be at least 1 when creating a JobStatusPoller.");
+            }
+            if (jitterRatio < 0 || jitterRatio >= 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'jitterRatio' must be between 0 (inclusive) and 1 when creating a JobStatusPoller.");
+            }
+            if (maxInFlight < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'maxInFlight' must be at least 1 when creating a JobStatusPoller.");
+            }
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.doverunner.sample.tnp.client.region;
+
+import com.doverunner.sample.tnp.client.retry.RetryPolicy;
+import com.doverunner.sample.tnp.constant.RegionCode;
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class RegionRouter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegionRouter.class);
+    private static final double RTT_SMOOTHING = 0.3;
+    private static final double ERROR_SMOOTHING = 0.2;
+    private static final int HTTP_SERVER_ERROR = 500;
+
+    private final List<Route> routes;
+    private final double maxErrorRate;
+    private final double switchMargin;
+    private final Duration probeInterval;
+    private final Duration probeTimeout;
+    private final String probePath;
+    private final LongSupplier nanoClock;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Route current;
+
+    private RegionRouter(Map<RegionCode, URI> endpoints, Set<RegionCode> allowedRegions, RegionCode preferredRegion,
+                         double maxErrorRate, double switchMargin, Duration probeInterval, Duration probeTimeout,
+                         String probePath, LongSupplier nanoClock) {
+        this.routes = endpoints.entrySet().stream()
+                .filter(entry -> allowedRegions.contains(entry.getKey()))
+                .map(entry -> new Route(entry.getKey(), entry.getValue()))
+                .toList();
+        this.maxErrorRate = maxErrorRate;
+        this.switchMargin = switchMargin;
+        this.probeInterval = probeInterval;
+        this.probeTimeout = probeTimeout;
+        this.probePath = probePath;
+        this.nanoClock = nanoClock;
+        this.current = routes.stream()
+                .filter(route -> route.region == preferredRegion)
+                .findFirst()
+                .orElse(routes.get(0));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(probeTimeout)
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("tnp-region-probe")
+                .daemon(true)
+                .factory());
+    }
+
+    public RegionRouter start() {
+        scheduler.scheduleWithFixedDelay(this::probeAll, 0, probeInterval.toMillis(), TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    public Route select() {
+        Route selected = current;
+        Route best = selected;
+        for (Route route : routes) {
+            if (route.isBetterThan(best)) {
+                best = route;
+            }
+        }
+        // Stay on the current region unless it is unhealthy or clearly slower, so routing does not flap.
+        if (best != selected && (!selected.isHealthy() || best.rttOrMax() < selected.rttOrMax() * (1 - switchMargin))) {
+            logger.info("Routing TnP API calls from {} to {}", selected.region, best.region);
+            current = best;
+            return best;
+        }
+        return selected;
+    }
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    CompletableFuture<Void> probeAll() {
+        return CompletableFuture.allOf(routes.stream().map(this::probe).toArray(CompletableFuture[]::new));
+    }
+
+    private CompletableFuture<Void> probe(Route route) {
+        HttpRequest request = HttpRequest.newBuilder(route.endpoint.resolve(probePath))
+                .timeout(probeTimeout)
+                .method("HEAD", BodyPublishers.noBody())
+                .build();
+        long start = nanoClock.getAsLong();
+
+        return httpClient.sendAsync(request, BodyHandlers.discarding())
+                .handle((response, throwable) -> {
+                    long elapsed = nanoClock.getAsLong() - start;
+                    route.probed(throwable == null && response.statusCode() < HTTP_SERVER_ERROR, elapsed);
+                    return null;
+                });
+    }
+
+    public final class Route {
+
+        private final RegionCode region;
+        private final URI endpoint;
+        private volatile double rttNanos = Double.NaN;
+        private volatile double errorRate;
+
+        private Route(RegionCode region, URI endpoint) {
+            this.region = region;
+            this.endpoint = endpoint;
+        }
+
+        public RegionCode getRegion() {
+            return region;
+        }
+
+        public URI getEndpoint() {
+            return endpoint;
+        }
+
+        public Duration getRtt() {
+            double rtt = rttNanos;
+            return Double.isNaN(rtt) ? null : Duration.ofNanos((long) rtt);
+        }
+
+        public double getErrorRate() {
+            return errorRate;
+        }
+
+        public boolean isHealthy() {
+            return errorRate < maxErrorRate;
+        }
+
+        // Real calls only feed the error rate: their duration includes server work and body parsing,
+        // so comparing it with idle regions' probe RTT would always make the active region look slower.
+        public void record(Throwable failure) {
+            boolean failed = failure != null && switch (RetryPolicy.classify(failure)) {
+                case CONNECT, TIMEOUT, SERVER_ERROR -> true;
+                case THROTTLED, CLIENT_ERROR, OTHER -> false;
+            };
+            updateErrorRate(!failed);
+        }
+
+        private synchronized void probed(boolean success, long rttNanos) {
+            updateErrorRate(success);
+            if (success) {
+                this.rttNanos = Double.isNaN(this.rttNanos)
+                        ? rttNanos
+                        : this.rttNanos + (rttNanos - this.rttNanos) * RTT_SMOOTHING;
+            }
+        }
+
+        private synchronized void updateErrorRate(boolean success) {
+            errorRate += ((success ? 0 : 1) - errorRate) * ERROR_SMOOTHING;
+        }
+
+        private boolean isBetterThan(Route other) {
+            if (other == this) {
+                return false;
+            }
+            boolean healthy = isHealthy();
+            boolean otherHealthy = other.isHealthy();
+            if (healthy != otherHealthy) {
+                return healthy;
+            }
+            if (!healthy) {
+                return errorRate < other.errorRate;
+            }
+            return rttOrMax() < other.rttOrMax();
+        }
+
+        private double rttOrMax() {
+            double rtt = rttNanos;
+            return Double.isNaN(rtt) ? Double.MAX_VALUE : rtt;
+        }
+    }
+
+    public static class Builder {
+
+        private static final double DEFAULT_MAX_ERROR_RATE = 0.5;
+        private static final double DEFAULT_SWITCH_MARGIN = 0.2;
+        private static final Duration DEFAULT_PROBE_INTERVAL = Duration.ofSeconds(30);
+        private static final Duration DEFAULT_PROBE_TIMEOUT = Duration.ofSeconds(2);
+        private static final String DEFAULT_PROBE_PATH = "/";
+
+        private final Map<RegionCode, URI> endpoints = new EnumMap<>(RegionCode.class);
+        private Set<RegionCode> allowedRegions = EnumSet.allOf(RegionCode.class);
+        private RegionCode preferredRegion;
+        private double maxErrorRate = DEFAULT_MAX_ERROR_RATE;
+        private double switchMargin = DEFAULT_SWITCH_MARGIN;
+        private Duration probeInterval = DEFAULT_PROBE_INTERVAL;
+        private Duration probeTimeout = DEFAULT_PROBE_TIMEOUT;
+        private String probePath = DEFAULT_PROBE_PATH;
+        private LongSupplier nanoClock = System::nanoTime;
+
+        public Builder endpoint(RegionCode region, URI endpoint) {
+            this.endpoints.put(region, endpoint);
+            return this;
+        }
+
+        public Builder allowedRegions(Set<RegionCode> allowedRegions) {
+            this.allowedRegions = allowedRegions;
+            return this;
+        }
+
+        public Builder preferredRegion(RegionCode preferredRegion) {
+            this.preferredRegion = preferredRegion;
+            return this;
+        }
+
+        public Builder maxErrorRate(double maxErrorRate) {
+            this.maxErrorRate = maxErrorRate;
+            return this;
+        }
+
+        public Builder switchMargin(double switchMargin) {
+            this.switchMargin = switchMargin;
+            return this;
+        }
+
+        public Builder probeInterval(Duration probeInterval) {
+            this.probeInterval = probeInterval;
+            return this;
+        }
+
+        public Builder probeTimeout(Duration probeTimeout) {
+            this.probeTimeout = probeTimeout;
+            return this;
+        }
+
+        public Builder probePath(String probePath) {
+            this.probePath = probePath;
+            return this;
+        }
+
+        Builder nanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        public RegionRouter build() {
+            validate();
+            return new RegionRouter(endpoints, allowedRegions, preferredRegion, maxErrorRate, switchMargin,
+                    probeInterval, probeTimeout, probePath, nanoClock);
+        }
+
+        private void validate() {
+            if (endpoints.containsValue(null)) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "Every region endpoint must be set when creating a RegionRouter.");
+            }
+            if (allowedRegions == null || endpoints.keySet().stream().noneMatch(allowedRegions::contains)) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "At least one allowed region must have an endpoint when creating a RegionRouter.");
+            }
+            if (maxErrorRate <= 0 || maxErrorRate > 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'maxErrorRate' must be greater than 0 and at most 1 when creating a RegionRouter.");
+            }
+            if (switchMargin < 0 || switchMargin >= 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'switchMargin' must be between 0 (inclusive) and 1 when creating a RegionRouter.");
+            }
+            if (probeInterval == null || probeInterval.toMillis() < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'probeInterval' must be at least 1 ms when creating a RegionRouter.");
+            }
+            if (probeTimeout == null || probeTimeout.isNegative() || probeTimeout.isZero()) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'probeTimeout' must be positive when creating a RegionRouter.");
+            }
+            if (probePath == null || !probePath.startsWith("/")) {
+                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                        "The 'probePath' must start with '/' when creating a RegionRouter.");
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.doverunner.sample.tnp.client.response;
+
+import com.doverunner.sample.tnp.exception.TnpApiException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+public class ErrorResponse {
+
+    private static final JsonFactory factory = new JsonFactory();
+
+    private final String code;
+    private final String message;
+
+    private ErrorResponse(String code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+
+    public static ErrorResponse read(JsonParser parser) throws IOException {
+        Builder builder = new Builder();
+        JsonFields.readObject(parser, builder::readField);
+        return builder.build();
+    }
+
+    public static ErrorResponse from(TnpApiException exception) {
+        String body = exception.getResponseBody();
+        if (body == null || body.isBlank()) {
+            return new ErrorResponse(null, null);
+        }
+        try (JsonParser parser = factory.createParser(body)) {
+            parser.nextToken();
+            return read(parser);
+        } catch (IOException e) {
+            return new ErrorResponse(null, body);
+        }
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public static class Builder {
+
+        private String code;
+        private String message;
+
+        public Builder code(String code) {
+            this.code = code;
+            return this;
+        }
+
+        public Builder message(String message) {
+            this.message = message;
+            return this;
+        }
+
+        public ErrorResponse build() {
+            return new ErrorResponse(code, message);
+        }
+
+        private boolean readField(String name, JsonParser parser) throws IOException {
+            switch (name) {
+                case "code", "error_code" -> code = JsonFields.text(parser);
+                case "message", "error_message", "detail" -> message = JsonFields.text(parser);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
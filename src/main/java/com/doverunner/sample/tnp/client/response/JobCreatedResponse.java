@@ -0,0 +1,74 @@
+package com.doverunner.sample.tnp.client.response;
+
+import com.doverunner.sample.tnp.job.JobStatus;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+public class JobCreatedResponse {
+
+    private final String jobId;
+    private final String contentId;
+    private final JobStatus status;
+
+    private JobCreatedResponse(String jobId, String contentId, JobStatus status) {
+        this.jobId = jobId;
+        this.contentId = contentId;
+        this.status = status;
+    }
+
+    public static JobCreatedResponse read(JsonParser parser) throws IOException {
+        Builder builder = new Builder();
+        JsonFields.readObject(parser, builder::readField);
+        return builder.build();
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getContentId() {
+        return contentId;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public static class Builder {
+
+        private String jobId;
+        private String contentId;
+        private JobStatus status = JobStatus.UNKNOWN;
+
+        public Builder jobId(String jobId) {
+            this.jobId = jobId;
+            return this;
+        }
+
+        public Builder contentId(String contentId) {
+            this.contentId = contentId;
+            return this;
+        }
+
+        public Builder status(JobStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public JobCreatedResponse build() {
+            return new JobCreatedResponse(jobId, contentId, status);
+        }
+
+        private boolean readField(String name, JsonParser parser) throws IOException {
+            switch (name) {
+                case "job_id", "id" -> jobId = JsonFields.text(parser);
+                case "content_id" -> contentId = JsonFields.text(parser);
+                case "status" -> status = JobStatus.from(JsonFields.text(parser));
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
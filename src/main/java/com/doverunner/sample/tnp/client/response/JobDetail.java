@@ -0,0 +1,140 @@
+package com.doverunner.sample.tnp.client.response;
+
+import com.doverunner.sample.tnp.job.JobStatus;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+public class JobDetail {
+
+    private final String jobId;
+    private final String jobName;
+    private final String contentId;
+    private final JobStatus status;
+    private final Integer progress;
+    private final String message;
+    private final String createdAt;
+    private final String updatedAt;
+
+    private JobDetail(String jobId, String jobName, String contentId, JobStatus status, Integer progress,
+                      String message, String createdAt, String updatedAt) {
+        this.jobId = jobId;
+        this.jobName = jobName;
+        this.contentId = contentId;
+        this.status = status;
+        this.progress = progress;
+        this.message = message;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static JobDetail read(JsonParser parser) throws IOException {
+        Builder builder = new Builder();
+        JsonFields.readObject(parser, builder::readField);
+        return builder.build();
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public String getContentId() {
+        return contentId;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public Integer getProgress() {
+        return progress;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public static class Builder {
+
+        private String jobId;
+        private String jobName;
+        private String contentId;
+        private JobStatus status = JobStatus.UNKNOWN;
+        private Integer progress;
+        private String message;
+        private String createdAt;
+        private String updatedAt;
+
+        public Builder jobId(String jobId) {
+            this.jobId = jobId;
+            return this;
+        }
+
+        public Builder jobName(String jobName) {
+            this.jobName = jobName;
+            return this;
+        }
+
+        public Builder contentId(String contentId) {
+            this.contentId = contentId;
+            return this;
+        }
+
+        public Builder status(JobStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder progress(Integer progress) {
+            this.progress = progress;
+            return this;
+        }
+
+        public Builder message(String message) {
+            this.message = message;
+            return this;
+        }
+
+        public Builder createdAt(String createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder updatedAt(String updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
+        public JobDetail build() {
+            return new JobDetail(jobId, jobName, contentId, status, progress, message, createdAt, updatedAt);
+        }
+
+        private boolean readField(String name, JsonParser parser) throws IOException {
+            switch (name) {
+                case "job_id", "id" -> jobId = JsonFields.text(parser);
+                case "job_name" -> jobName = JsonFields.text(parser);
+                case "content_id" -> contentId = JsonFields.text(parser);
+                case "status" -> status = JobStatus.from(JsonFields.text(parser));
+                case "progress" -> progress = JsonFields.intValue(parser);
+                case "message", "error_message" -> message = JsonFields.text(parser);
+                case "created_at" -> createdAt = JsonFields.text(parser);
+                case "updated_at" -> updatedAt = JsonFields.text(parser);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.doverunner.sample.tnp.client.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JobListPage {
+
+    private final List<JobSummary> items;
+    private final Integer page;
+    private final Integer size;
+    private final Long total;
+
+    private JobListPage(List<JobSummary> items, Integer page, Integer size, Long total) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.total = total;
+    }
+
+    public static JobListPage read(JsonParser parser) throws IOException {
+        Builder builder = new Builder();
+        JsonFields.readObject(parser, builder::readField);
+        return builder.build();
+    }
+
+    public List<JobSummary> getItems() {
+        return items;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public static class Builder {
+
+        private List<JobSummary> items = new ArrayList<>();
+        private Integer page;
+        private Integer size;
+        private Long total;
+
+        public Builder items(List<JobSummary> items) {
+            this.items = items;
+            return this;
+        }
+
+        public Builder page(Integer page) {
+            this.page = page;
+            return this;
+        }
+
+        public Builder size(Integer size) {
+            this.size = size;
+            return this;
+        }
+
+        public Builder total(Long total) {
+            this.total = total;
+            return this;
+        }
+
+        public JobListPage build() {
+            return new JobListPage(items != null ? List.copyOf(items) : List.of(), page, size, total);
+        }
+
+        private boolean readField(String name, JsonParser parser) throws IOException {
+            switch (name) {
+                case "list" -> {
+                    if (parser.currentToken() != JsonToken.START_ARRAY) {
+                        return false;
+                    }
+                    readItems(parser);
+                }
+                case "page" -> page = JsonFields.intValue(parser);
+                case "size" -> size = JsonFields.intValue(parser);
+                case "total", "total_count" -> total = JsonFields.longValue(parser);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void readItems(JsonParser parser) throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                if (token == JsonToken.START_OBJECT) {
+                    items.add(JobSummary.read(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.doverunner.sample.tnp.client.response;
+
+import com.doverunner.sample.tnp.job.JobStatus;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+public class JobSummary {
+
+    private final String jobId;
+    private final String jobName;
+    private final String contentId;
+    private final JobStatus status;
+    private final String createdAt;
+
+    public JobSummary(String jobId, String jobName, String contentId, JobStatus status, String createdAt) {
+        this.jobId = jobId;
+        this.jobName = jobName;
+        this.contentId = contentId;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public static JobSummary read(JsonParser parser) throws IOException {
+        Builder builder = new Builder();
+        JsonFields.readObject(parser, builder::readField);
+        return builder.build();
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public String getContentId() {
+        return contentId;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public static class Builder {
+
+        private String jobId;
+        private String jobName;
+        private String contentId;
+        private JobStatus status = JobStatus.UNKNOWN;
+        private String createdAt;
+
+        public Builder jobId(String jobId) {
+            this.jobId = jobId;
+            return this;
+        }
+
+        public Builder jobName(String jobName) {
+            this.jobName = jobName;
+            return this;
+        }
+
+        public Builder contentId(String contentId) {
+            this.contentId = contentId;
+            return this;
+        }
+
+        public Builder status(JobStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder createdAt(String createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public JobSummary build() {
+            return new JobSummary(jobId, jobName, contentId, status, createdAt);
+        }
+
+        private boolean readField(String name, JsonParser parser) throws IOException {
+            switch (name) {
+                case "job_id", "id" -> jobId = JsonFields.text(parser);
+                case "job_name" -> jobName = JsonFields.text(parser);
+                case "content_id" -> contentId = JsonFields.text(parser);
+                case "status" -> status = JobStatus.from(JsonFields.text(parser));
+                case "created_at" -> createdAt = JsonFields.text(parser);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
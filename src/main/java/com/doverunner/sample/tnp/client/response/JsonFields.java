@@ -0,0 +1,77 @@
+package com.doverunner.sample.tnp.client.response;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+
+final class JsonFields {
+
+    private static final String ENVELOPE_FIELD = "data";
+
+    @FunctionalInterface
+    interface FieldVisitor {
+        boolean visit(String name, JsonParser parser) throws IOException;
+    }
+
+    private JsonFields() {
+    }
+
+    // Walks one object field by field; unclaimed "data" objects are descended into so wrapped and bare payloads read alike.
+    static void readObject(JsonParser parser, FieldVisitor visitor) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            return;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object but found " + token + ".");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (visitor.visit(name, parser)) {
+                continue;
+            }
+            if (value == JsonToken.START_OBJECT && ENVELOPE_FIELD.equals(name)) {
+                readObject(parser, visitor);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    static String text(JsonParser parser) throws IOException {
+        if (parser.currentToken().isScalarValue()) {
+            return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    static Long longValue(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsLong();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Long.parseLong(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    static Integer intValue(JsonParser parser) throws IOException {
+        Long value = longValue(parser);
+        if (value == null) {
+            return null;
+        }
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new JsonParseException(parser, "Expected an int value but found " + value + ".");
+        }
+        return value.intValue();
+    }
+}
@@ -0,0 +1,10 @@
+package com.doverunner.sample.tnp.client.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+@FunctionalInterface
+public interface ResponseReader<T> {
+
+    T read(JsonParser parser) throws IOException;
+}
@@ -0,0 +1,60 @@
+package com.doverunner.sample.tnp.client.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+
+public class TokenResponse {
+
+    private final String token;
+    private final Long expiresIn;
+
+    private TokenResponse(String token, Long expiresIn) {
+        this.token = token;
+        this.expiresIn = expiresIn;
+    }
+
+    public static TokenResponse read(JsonParser parser) throws IOException {
+        Builder builder = new Builder();
+        JsonFields.readObject(parser, builder::readField);
+        return builder.build();
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public Long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public static class Builder {
+
+        private String token;
+        private Long expiresIn;
+
+        public Builder token(String token) {
+            this.token = token;
+            return this;
+        }
+
+        public Builder expiresIn(Long expiresIn) {
+            this.expiresIn = expiresIn;
+            return this;
+        }
+
+        public TokenResponse build() {
+            return new TokenResponse(token, expiresIn);
+        }
+
+        private boolean readField(String name, JsonParser parser) throws IOException {
+            switch (name) {
+                case "token", "access_token" -> token = JsonFields.text(parser);
+                case "expires_in" -> expiresIn = JsonFields.longValue(parser);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.doverunner.sample.tnp.client.retry;
+
+public enum FailureType {
+
+    CONNECT(true),
+    TIMEOUT(true),
+    THROTTLED(true),
+    SERVER_ERROR(true),
+    CLIENT_ERROR(false),
+    OTHER(false);
+
+    private final boolean retryable;
+
+    FailureType(boolean retryable) {
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,185 @@
+package com.doverunner.sample.tnp.client.retry;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpApiException;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class RetryPolicy {
+
+    private static final int HTTP_REQUEST_TIMEOUT = 408;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int HTTP_NOT_IMPLEMENTED = 501;
+    private static final int JITTER_MULTIPLIER = 3;
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration maxRetryAfter;
+
+    private RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, Duration maxRetryAfter) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.maxRetryAfter = maxRetryAfter;
+    }
+
+    public static RetryPolicy none() {
+        return new Builder().maxAttempts(1).build();
+    }
+
+    public static FailureType classify(Throwable failure) {
+        if (failure instanceof TnpApiException e) {
+            int statusCode = e.getStatusCode();
+            if (statusCode == HTTP_TOO_MANY_REQUESTS) {
+                return FailureType.THROTTLED;
+            }
+            if (statusCode == HTTP_REQUEST_TIMEOUT) {
+                return FailureType.TIMEOUT;
+            }
+            if (statusCode / 100 == 5 && statusCode != HTTP_NOT_IMPLEMENTED) {
+                return FailureType.SERVER_ERROR;
+            }
+            return FailureType.CLIENT_ERROR;
+        }
+
+        Throwable cause = failure instanceof TnpCustomException e && e.getErrorCode() == ErrorCode.API_CONNECTION_FAILED
+                ? e.getCause()
+                : failure;
+        if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+            return FailureType.CONNECT;
+        }
+        if (cause instanceof HttpTimeoutException) {
+            return FailureType.TIMEOUT;
+        }
+        if (cause instanceof IOException) {
+            return FailureType.CONNECT;
+        }
+        return FailureType.OTHER;
+    }
+
+    public static Duration parseRetryAfter(String value, Instant now) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // Not delta-seconds; fall through to the HTTP-date form.
+        }
+        try {
+            Instant retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return retryAt.isAfter(now) ? Duration.between(now, retryAt) : Duration.ZERO;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public Backoff newBackoff() {
+        return new Backoff();
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public final class Backoff {
+
+        private int attempts = 1;
+        private long previousDelayMillis = baseDelay.toMillis();
+
+        private Backoff() {
+        }
+
+        public int getAttempts() {
+            return attempts;
+        }
+
+        public Duration nextDelay(Throwable failure) {
+            if (attempts >= maxAttempts || !classify(failure).isRetryable()) {
+                return null;
+            }
+
+            Duration retryAfter = failure instanceof TnpApiException e ? e.getRetryAfter() : null;
+            if (retryAfter != null && retryAfter.compareTo(maxRetryAfter) > 0) {
+                return null;
+            }
+
+            // Decorrelated jitter: each delay is drawn from [base, previous * 3], capped at maxDelay.
+            long base = baseDelay.toMillis();
+            long upper = Math.max(base + 1, Math.min(maxDelay.toMillis(), previousDelayMillis * JITTER_MULTIPLIER));
+            long jittered = Math.min(maxDelay.toMillis(), ThreadLocalRandom.current().nextLong(base, upper + 1));
+            previousDelayMillis = jittered;
+            attempts++;
+
+            long delayMillis = retryAfter != null ? Math.max(retryAfter.toMillis(), jittered) : jittered;
+            return Duration.ofMillis(delayMillis);
+        }
+    }
+
+    public static class Builder {
+
+        private static final int DEFAULT_MAX_ATTEMPTS = 3;
+        private static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(200);
+        private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(10);
+        private static final Duration DEFAULT_MAX_RETRY_AFTER = Duration.ofSeconds(60);
+
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private Duration baseDelay = DEFAULT_BASE_DELAY;
+        private Duration maxDelay = DEFAULT_MAX_DELAY;
+        private Duration maxRetryAfter = DEFAULT_MAX_RETRY_AFTER;
+
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder baseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+            return this;
+        }
+
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public Builder maxRetryAfter(Duration maxRetryAfter) {
+            this.maxRetryAfter = maxRetryAfter;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            validate();
+            return new RetryPolicy(maxAttempts, baseDelay, maxDelay, maxRetryAfter);
+        }
+
+        private void validate() {
+            if (maxAttempts < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'maxAttempts' must be at least 1 when creating a RetryPolicy.");
+            }
+            if (baseDelay == null || baseDelay.isNegative() || baseDelay.isZero()) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'baseDelay' must be positive when creating a RetryPolicy.");
+            }
+            if (maxDelay == null || maxDelay.compareTo(baseDelay) < 0) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'maxDelay' must be greater than or equal to 'baseDelay' when creating a RetryPolicy.");
+            }
+            if (maxRetryAfter == null || maxRetryAfter.isNegative()) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'maxRetryAfter' must not be negative when creating a RetryPolicy.");
+            }
+        }
+    }
+}
@@ -1,27 +1,62 @@
 package com.doverunner.sample.tnp.constant.web;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public enum ApiUrl {
 
-    AUTH_TOKEN("https://tnp.doverunner.com/api/token/%s", HttpMethod.POST),
-    CREATE_JOB("https://tnp.doverunner.com/api/job/%s", HttpMethod.POST),
-    GET_JOB_LIST("https://tnp.doverunner.com/api/job/%s", HttpMethod.GET),
-    GET_JOB_DETAIL("https://tnp.doverunner.com/api/job/%1$s/%2$s", HttpMethod.GET),
-    STOP_JOB("https://tnp.doverunner.com/api/job/%1$s/%2$s/stop", HttpMethod.PUT),
-    RESTART_JOB("https://tnp.doverunner.com/api/job/%1$s/%2$s/restart", HttpMethod.PUT);
+    AUTH_TOKEN("/api/token/%s", HttpMethod.POST, false),
+    CREATE_JOB("/api/job/%s", HttpMethod.POST, false),
+    GET_JOB_LIST("/api/job/%s", HttpMethod.GET, true),
+    GET_JOB_DETAIL("/api/job/%1$s/%2$s", HttpMethod.GET, true),
+    STOP_JOB("/api/job/%1$s/%2$s/stop", HttpMethod.PUT, true),
+    RESTART_JOB("/api/job/%1$s/%2$s/restart", HttpMethod.PUT, true);
 
-    private final String urlPattern;
+    public static final URI DEFAULT_BASE_URI = URI.create("https://tnp.doverunner.com");
+
+    private static final int MAX_CACHED_URIS = 64;
+
+    private final UrlTemplate template;
     private final HttpMethod method;
+    private final boolean idempotent;
+    private final Map<URI, Map<String, URI>> uriCache = new ConcurrentHashMap<>();
 
-    ApiUrl(String url, HttpMethod method) {
-        this.urlPattern = url;
+    ApiUrl(String pathPattern, HttpMethod method, boolean idempotent) {
+        this.template = UrlTemplate.compile(pathPattern);
         this.method = method;
+        this.idempotent = idempotent;
     }
 
     public String getUrl(String... params) {
-        int expectedParams = countFormatSpecifiers(urlPattern);
+        return getUrl(DEFAULT_BASE_URI, params);
+    }
+
+    public String getUrl(URI baseUri, String... params) {
+        requireParams(params);
+        return template.expand(baseUri.toString(), params);
+    }
+
+    public URI getUri(URI baseUri, String... params) {
+        requireParams(params);
+        // Only site-level URIs repeat; per-job URIs would just grow the cache, so they are built every time.
+        if (params != null && params.length > 1) {
+            return URI.create(template.expand(baseUri.toString(), params));
+        }
+        Map<String, URI> siteUris = uriCache.computeIfAbsent(baseUri, key -> new ConcurrentHashMap<>());
+        String siteId = params != null && params.length == 1 ? params[0] : "";
+        URI uri = siteUris.get(siteId);
+        if (uri == null) {
+            uri = URI.create(template.expand(baseUri.toString(), params));
+            if (siteUris.size() < MAX_CACHED_URIS) {
+                siteUris.putIfAbsent(siteId, uri);
+            }
+        }
+        return uri;
+    }
+
+    private void requireParams(String[] params) {
+        int expectedParams = template.getParameterCount();
         int actualParams = (params == null) ? 0 : params.length;
 
         if (actualParams != expectedParams) {
@@ -29,23 +64,13 @@ public enum ApiUrl {
                     "The number of parameters required by the URL pattern does not match the number of provided parameters.\n"
                             + "Expected parameters: " + expectedParams + ", Provided parameters: " + actualParams);
         }
-
-        return String.format(urlPattern, (Object[]) params);
-    }
-
-    private int countFormatSpecifiers(String pattern) {
-        Pattern p = Pattern.compile("%(\\d+\\$)?s");
-        Matcher m = p.matcher(pattern);
-        int count = 0;
-
-        while (m.find()) {
-            count++;
-        }
-
-        return count;
     }
 
     public String getMethod() {
         return method.getMethod();
     }
+
+    public boolean isIdempotent() {
+        return idempotent;
+    }
 }
@@ -0,0 +1,83 @@
+package com.doverunner.sample.tnp.constant.web;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class UrlTemplate {
+
+    private final String[] literals;
+    private final int[] parameters;
+    private final int literalLength;
+    private final int parameterCount;
+
+    private UrlTemplate(String[] literals, int[] parameters, int parameterCount) {
+        this.literals = literals;
+        this.parameters = parameters;
+        this.parameterCount = parameterCount;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    // Accepts the subset of format syntax the URL patterns use: "%s" and positional "%1$s".
+    static UrlTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> parameters = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int nextSequential = 0;
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            int end = i + 1;
+            while (end < pattern.length() && Character.isDigit(pattern.charAt(end))) {
+                end++;
+            }
+            int index;
+            if (end > i + 1 && end < pattern.length() && pattern.charAt(end) == '$') {
+                index = Integer.parseInt(pattern, i + 1, end, 10) - 1;
+                end++;
+            } else if (end == i + 1) {
+                index = nextSequential++;
+            } else {
+                throw new IllegalArgumentException("Unsupported format specifier in URL pattern: " + pattern);
+            }
+            if (index < 0 || end >= pattern.length() || pattern.charAt(end) != 's') {
+                throw new IllegalArgumentException("Unsupported format specifier in URL pattern: " + pattern);
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            parameters.add(index);
+            i = end + 1;
+        }
+        literals.add(literal.toString());
+
+        int parameterCount = parameters.stream().mapToInt(index -> index + 1).max().orElse(0);
+        return new UrlTemplate(literals.toArray(String[]::new),
+                parameters.stream().mapToInt(Integer::intValue).toArray(), parameterCount);
+    }
+
+    int getParameterCount() {
+        return parameterCount;
+    }
+
+    String expand(String baseUrl, String... params) {
+        int baseLength = baseUrl.endsWith("/") ? baseUrl.length() - 1 : baseUrl.length();
+        int length = baseLength + literalLength;
+        for (int parameter : parameters) {
+            length += String.valueOf(params[parameter]).length();
+        }
+
+        StringBuilder url = new StringBuilder(length).append(baseUrl, 0, baseLength);
+        for (int i = 0; i < parameters.length; i++) {
+            url.append(literals[i]).append(params[parameters[i]]);
+        }
+        return url.append(literals[parameters.length]).toString();
+    }
+}
@@ -0,0 +1,140 @@
+package com.doverunner.sample.tnp.emulator;
+
+import com.doverunner.sample.tnp.job.JobStatus;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Status is derived from elapsed time on every read, so no background thread has to advance jobs.
+final class EmulatedJob {
+
+    private static final int TRANSCODING_PROGRESS = 80;
+    private static final int COMPLETE_PROGRESS = 100;
+
+    private final String jobId;
+    private final String siteId;
+    private final String jobName;
+    private final String contentId;
+    private final Instant createdAt;
+
+    private Instant startedAt;
+    private long startedNanos;
+    private long queueNanos;
+    private long transcodeNanos;
+    private long packageNanos;
+    private JobStatus failsIn;
+    private long stoppedNanos = -1;
+
+    EmulatedJob(String jobId, String siteId, String jobName, String contentId, Instant createdAt) {
+        this.jobId = jobId;
+        this.siteId = siteId;
+        this.jobName = jobName;
+        this.contentId = contentId;
+        this.createdAt = createdAt;
+    }
+
+    String getJobId() {
+        return jobId;
+    }
+
+    String getSiteId() {
+        return siteId;
+    }
+
+    String getContentId() {
+        return contentId;
+    }
+
+    synchronized void start(Instant now, long nowNanos, long queueNanos, long transcodeNanos, long packageNanos,
+                            JobStatus failsIn) {
+        this.startedAt = now;
+        this.startedNanos = nowNanos;
+        this.queueNanos = queueNanos;
+        this.transcodeNanos = transcodeNanos;
+        this.packageNanos = packageNanos;
+        this.failsIn = failsIn;
+        this.stoppedNanos = -1;
+    }
+
+    synchronized boolean stop(long nowNanos) {
+        if (statusAt(nowNanos).isTerminal()) {
+            return false;
+        }
+        stoppedNanos = nowNanos;
+        return true;
+    }
+
+    synchronized JobStatus statusAt(long nowNanos) {
+        if (stoppedNanos >= 0) {
+            return JobStatus.STOPPED;
+        }
+        long elapsed = nowNanos - startedNanos;
+        if (elapsed < queueNanos) {
+            return JobStatus.QUEUED;
+        }
+        if (elapsed < queueNanos + transcodeNanos) {
+            return JobStatus.TRANSCODING;
+        }
+        if (failsIn == JobStatus.TRANSCODING) {
+            return JobStatus.FAILED;
+        }
+        if (elapsed < queueNanos + transcodeNanos + packageNanos) {
+            return JobStatus.PACKAGING;
+        }
+        return failsIn == JobStatus.PACKAGING ? JobStatus.FAILED : JobStatus.COMPLETED;
+    }
+
+    synchronized Map<String, Object> toSummary(long nowNanos) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("job_id", jobId);
+        summary.put("job_name", jobName);
+        summary.put("content_id", contentId);
+        summary.put("status", statusAt(nowNanos).getValue());
+        summary.put("created_at", createdAt.toString());
+        return summary;
+    }
+
+    synchronized Map<String, Object> toDetail(long nowNanos) {
+        JobStatus status = statusAt(nowNanos);
+        long elapsed = Math.min(stoppedNanos >= 0 ? stoppedNanos : nowNanos, endOfRunNanos()) - startedNanos;
+
+        Map<String, Object> detail = toSummary(nowNanos);
+        detail.put("progress", progressAt(elapsed));
+        detail.put("updated_at", startedAt.plusNanos(lastTransitionAt(status, elapsed)).toString());
+        if (status == JobStatus.FAILED) {
+            detail.put("error_message", "Emulated failure while " + failsIn.getValue() + ".");
+        }
+        return detail;
+    }
+
+    private long endOfRunNanos() {
+        long run = failsIn == JobStatus.TRANSCODING ? queueNanos + transcodeNanos
+                : queueNanos + transcodeNanos + packageNanos;
+        return startedNanos + run;
+    }
+
+    private int progressAt(long elapsed) {
+        long transcoded = elapsed - queueNanos;
+        if (transcoded <= 0) {
+            return 0;
+        }
+        if (transcoded < transcodeNanos) {
+            return (int) (TRANSCODING_PROGRESS * transcoded / transcodeNanos);
+        }
+        long packaged = transcoded - transcodeNanos;
+        if (packaged < packageNanos) {
+            return TRANSCODING_PROGRESS
+                    + (int) ((COMPLETE_PROGRESS - TRANSCODING_PROGRESS) * packaged / packageNanos);
+        }
+        return COMPLETE_PROGRESS;
+    }
+
+    private long lastTransitionAt(JobStatus status, long elapsed) {
+        return switch (status) {
+            case QUEUED, UNKNOWN -> 0;
+            case TRANSCODING -> queueNanos;
+            case PACKAGING -> queueNanos + transcodeNanos;
+            case COMPLETED, FAILED, STOPPED -> elapsed;
+        };
+    }
+}
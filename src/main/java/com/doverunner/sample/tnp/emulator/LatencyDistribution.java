@@ -0,0 +1,53 @@
+package com.doverunner.sample.tnp.emulator;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    long sampleNanos(RandomGenerator random);
+
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    static LatencyDistribution fixed(Duration latency) {
+        long nanos = requireNonNegative(latency, "latency").toNanos();
+        return random -> nanos;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = requireNonNegative(min, "min").toNanos();
+        long maxNanos = requireNonNegative(max, "max").toNanos();
+        if (maxNanos < minNanos) {
+            throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                    "The 'max' must not be less than 'min' when creating a uniform LatencyDistribution.");
+        }
+        return random -> minNanos == maxNanos ? minNanos : random.nextLong(minNanos, maxNanos + 1);
+    }
+
+    // Long-tailed like real API latencies: most samples sit near the median, about 1% exceed p99.
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        long medianNanos = requireNonNegative(median, "median").toNanos();
+        long p99Nanos = requireNonNegative(p99, "p99").toNanos();
+        if (medianNanos < 1 || p99Nanos < medianNanos) {
+            throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                    "The 'median' must be positive and not greater than 'p99' when creating a log-normal LatencyDistribution.");
+        }
+        double mu = Math.log(medianNanos);
+        // 2.326 is the z-score of the 99th percentile of a standard normal distribution.
+        double sigma = (Math.log(p99Nanos) - mu) / 2.326;
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    private static Duration requireNonNegative(Duration duration, String name) {
+        if (duration == null || duration.isNegative()) {
+            throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                    "The '" + name + "' must not be null or negative when creating a LatencyDistribution.");
+        }
+        return duration;
+    }
+}
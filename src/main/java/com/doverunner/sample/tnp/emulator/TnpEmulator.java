@@ -0,0 +1,554 @@
+package com.doverunner.sample.tnp.emulator;
+
+import com.doverunner.sample.tnp.constant.web.ApiUrl;
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.JobStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TnpEmulator implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TnpEmulator.class);
+
+    private static final String METHOD_GET = "GET";
+    private static final String BASIC_PREFIX = "Basic ";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String HEADER_AUTHORIZATION = "Authorization";
+    private static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_UNAUTHORIZED = 401;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    private static final int HTTP_CONFLICT = 409;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final long FIRST_JOB_ID = 1_000_000;
+    private static final TypeReference<Map<String, Object>> BODY_TYPE = new TypeReference<>() {};
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper mapper;
+    private final Map<ApiUrl, LatencyDistribution> latencies;
+    private final Map<ApiUrl, Double> errorRates;
+    private final int errorStatus;
+    private final TokenBucket rateLimiter;
+    private final LatencyDistribution queueTime;
+    private final LatencyDistribution transcodeTime;
+    private final LatencyDistribution packageTime;
+    private final double jobFailureRate;
+    private final Duration tokenTtl;
+    private final RandomGenerator random;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, EmulatedJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, EmulatedJob> jobsByIdempotencyKey = new ConcurrentHashMap<>();
+    private final AtomicLong nextJobId = new AtomicLong(FIRST_JOB_ID);
+    private final Map<ApiUrl, LongAdder> requestCounts = new EnumMap<>(ApiUrl.class);
+    private final LongAdder throttledCount = new LongAdder();
+    private final LongAdder injectedErrorCount = new LongAdder();
+
+    private TnpEmulator(InetSocketAddress address, ObjectMapper mapper, Map<ApiUrl, LatencyDistribution> latencies,
+                        Map<ApiUrl, Double> errorRates, int errorStatus, TokenBucket rateLimiter,
+                        LatencyDistribution queueTime, LatencyDistribution transcodeTime,
+                        LatencyDistribution packageTime, double jobFailureRate, Duration tokenTtl,
+                        RandomGenerator random, LongSupplier nanoClock) throws IOException {
+        this.mapper = mapper;
+        this.latencies = latencies;
+        this.errorRates = errorRates;
+        this.errorStatus = errorStatus;
+        this.rateLimiter = rateLimiter;
+        this.queueTime = queueTime;
+        this.transcodeTime = transcodeTime;
+        this.packageTime = packageTime;
+        this.jobFailureRate = jobFailureRate;
+        this.tokenTtl = tokenTtl;
+        this.random = random;
+        this.nanoClock = nanoClock;
+        for (ApiUrl apiUrl : ApiUrl.values()) {
+            requestCounts.put(apiUrl, new LongAdder());
+        }
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(address, 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/api/", this::handle);
+    }
+
+    public TnpEmulator start() {
+        server.start();
+        logger.info("TnP API emulator listening on {}", server.getAddress());
+        return this;
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    public URI getBaseUri() {
+        InetSocketAddress address = server.getAddress();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    public long getRequestCount(ApiUrl apiUrl) {
+        return requestCounts.get(apiUrl).sum();
+    }
+
+    public long getThrottledCount() {
+        return throttledCount.sum();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrorCount.sum();
+    }
+
+    public int getJobCount() {
+        return jobs.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String[] segments = exchange.getRequestURI().getPath().substring(1).split("/");
+            ApiUrl apiUrl = routeOf(method, segments);
+            if (apiUrl == null) {
+                sendError(exchange, HTTP_NOT_FOUND, "No TnP API route for " + method + " "
+                        + exchange.getRequestURI().getPath() + ".");
+                return;
+            }
+            if (!apiUrl.getMethod().equalsIgnoreCase(method)) {
+                exchange.getResponseHeaders().add("Allow", apiUrl.getMethod());
+                exchange.sendResponseHeaders(HTTP_METHOD_NOT_ALLOWED, -1);
+                return;
+            }
+            requestCounts.get(apiUrl).increment();
+
+            long waitNanos = rateLimiter != null ? rateLimiter.tryAcquire() : 0;
+            if (waitNanos > 0) {
+                throttledCount.increment();
+                long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)
+                        / TimeUnit.SECONDS.toNanos(1));
+                exchange.getResponseHeaders().add("Retry-After", Long.toString(retryAfterSeconds));
+                sendError(exchange, HTTP_TOO_MANY_REQUESTS, "Rate limit exceeded.");
+                return;
+            }
+
+            sleep(latencies.get(apiUrl).sampleNanos(random));
+
+            if (!isAuthorized(apiUrl, exchange.getRequestHeaders().getFirst(HEADER_AUTHORIZATION))) {
+                sendError(exchange, HTTP_UNAUTHORIZED, "Missing or invalid Authorization header.");
+                return;
+            }
+            if (random.nextDouble() < errorRates.get(apiUrl)) {
+                injectedErrorCount.increment();
+                sendError(exchange, errorStatus, "Injected " + apiUrl.name() + " failure.");
+                return;
+            }
+
+            String siteId = segments[2];
+            String jobId = segments.length > 3 ? segments[3] : null;
+            switch (apiUrl) {
+                case AUTH_TOKEN -> sendJson(exchange, HTTP_OK, Map.of(
+                        "token", "emulator-" + UUID.randomUUID(),
+                        "expires_in", tokenTtl.toSeconds()));
+                case CREATE_JOB -> createJob(exchange, siteId);
+                case GET_JOB_LIST -> getJobList(exchange, siteId);
+                case GET_JOB_DETAIL -> getJobDetail(exchange, siteId, jobId);
+                case STOP_JOB -> stopJob(exchange, siteId, jobId);
+                case RESTART_JOB -> restartJob(exchange, siteId, jobId);
+            }
+        }
+    }
+
+    private static ApiUrl routeOf(String method, String[] segments) {
+        if (segments.length < 3 || !"api".equals(segments[0])) {
+            return null;
+        }
+        if ("token".equals(segments[1])) {
+            return segments.length == 3 ? ApiUrl.AUTH_TOKEN : null;
+        }
+        if (!"job".equals(segments[1])) {
+            return null;
+        }
+        return switch (segments.length) {
+            case 3 -> METHOD_GET.equalsIgnoreCase(method) ? ApiUrl.GET_JOB_LIST : ApiUrl.CREATE_JOB;
+            case 4 -> ApiUrl.GET_JOB_DETAIL;
+            case 5 -> switch (segments[4]) {
+                case "stop" -> ApiUrl.STOP_JOB;
+                case "restart" -> ApiUrl.RESTART_JOB;
+                default -> null;
+            };
+            default -> null;
+        };
+    }
+
+    private static boolean isAuthorized(ApiUrl apiUrl, String authorization) {
+        String prefix = apiUrl == ApiUrl.AUTH_TOKEN ? BASIC_PREFIX : BEARER_PREFIX;
+        return authorization != null && authorization.startsWith(prefix)
+                && !authorization.substring(prefix.length()).isBlank();
+    }
+
+    private void createJob(HttpExchange exchange, String siteId) throws IOException {
+        Map<String, Object> body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = mapper.readValue(in, BODY_TYPE);
+        } catch (JsonProcessingException e) {
+            sendError(exchange, HTTP_BAD_REQUEST, "Malformed job body: " + e.getOriginalMessage());
+            return;
+        }
+        if (!(body.get("job_name") instanceof String jobName)
+                || !(body.get("content_id") instanceof String contentId)) {
+            sendError(exchange, HTTP_BAD_REQUEST, "The 'job_name' and 'content_id' fields are required.");
+            return;
+        }
+
+        String idempotencyKey = exchange.getRequestHeaders().getFirst(HEADER_IDEMPOTENCY_KEY);
+        EmulatedJob job = idempotencyKey == null
+                ? newJob(siteId, jobName, contentId)
+                : jobsByIdempotencyKey.computeIfAbsent(siteId + "/" + idempotencyKey,
+                        key -> newJob(siteId, jobName, contentId));
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("job_id", job.getJobId());
+        response.put("content_id", job.getContentId());
+        response.put("status", job.statusAt(nanoClock.getAsLong()).getValue());
+        sendJson(exchange, HTTP_OK, response);
+    }
+
+    private EmulatedJob newJob(String siteId, String jobName, String contentId) {
+        Instant now = Instant.now();
+        EmulatedJob job = new EmulatedJob(Long.toString(nextJobId.getAndIncrement()), siteId, jobName, contentId,
+                now);
+        start(job, now);
+        jobs.put(job.getJobId(), job);
+        return job;
+    }
+
+    private void start(EmulatedJob job, Instant now) {
+        JobStatus failsIn = null;
+        if (random.nextDouble() < jobFailureRate) {
+            failsIn = random.nextBoolean() ? JobStatus.TRANSCODING : JobStatus.PACKAGING;
+        }
+        job.start(now, nanoClock.getAsLong(), queueTime.sampleNanos(random), transcodeTime.sampleNanos(random),
+                packageTime.sampleNanos(random), failsIn);
+    }
+
+    private void getJobList(HttpExchange exchange, String siteId) throws IOException {
+        int page = 1;
+        int size = DEFAULT_PAGE_SIZE;
+        String query = exchange.getRequestURI().getQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                String[] parts = pair.split("=", 2);
+                try {
+                    if ("page".equals(parts[0]) && parts.length == 2) {
+                        page = Integer.parseInt(parts[1]);
+                    } else if ("size".equals(parts[0]) && parts.length == 2) {
+                        size = Integer.parseInt(parts[1]);
+                    }
+                } catch (NumberFormatException e) {
+                    sendError(exchange, HTTP_BAD_REQUEST, "Invalid '" + parts[0] + "' query parameter.");
+                    return;
+                }
+            }
+        }
+        if (page < 1 || size < 1) {
+            sendError(exchange, HTTP_BAD_REQUEST, "The 'page' and 'size' must be at least 1.");
+            return;
+        }
+
+        long now = nanoClock.getAsLong();
+        List<EmulatedJob> siteJobs = jobs.values().stream()
+                .filter(job -> job.getSiteId().equals(siteId))
+                .sorted(Comparator.comparingLong((EmulatedJob job) -> Long.parseLong(job.getJobId())).reversed())
+                .toList();
+        List<Map<String, Object>> items = siteJobs.stream()
+                .skip((long) (page - 1) * size)
+                .limit(size)
+                .map(job -> job.toSummary(now))
+                .toList();
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("page", page);
+        data.put("size", size);
+        data.put("total_count", siteJobs.size());
+        data.put("list", items);
+        sendJson(exchange, HTTP_OK, Map.of("data", data));
+    }
+
+    private void getJobDetail(HttpExchange exchange, String siteId, String jobId) throws IOException {
+        EmulatedJob job = findJob(siteId, jobId);
+        if (job == null) {
+            sendError(exchange, HTTP_NOT_FOUND, "Job " + jobId + " does not exist.");
+            return;
+        }
+        sendJson(exchange, HTTP_OK, Map.of("data", job.toDetail(nanoClock.getAsLong())));
+    }
+
+    private void stopJob(HttpExchange exchange, String siteId, String jobId) throws IOException {
+        EmulatedJob job = findJob(siteId, jobId);
+        if (job == null) {
+            sendError(exchange, HTTP_NOT_FOUND, "Job " + jobId + " does not exist.");
+            return;
+        }
+        if (!job.stop(nanoClock.getAsLong())) {
+            sendError(exchange, HTTP_CONFLICT, "Job " + jobId + " has already finished.");
+            return;
+        }
+        sendJson(exchange, HTTP_OK, Map.of("job_id", jobId, "status", JobStatus.STOPPED.getValue()));
+    }
+
+    private void restartJob(HttpExchange exchange, String siteId, String jobId) throws IOException {
+        EmulatedJob job = findJob(siteId, jobId);
+        if (job == null) {
+            sendError(exchange, HTTP_NOT_FOUND, "Job " + jobId + " does not exist.");
+            return;
+        }
+        JobStatus status;
+        synchronized (job) {
+            status = job.statusAt(nanoClock.getAsLong());
+            if (status == JobStatus.FAILED || status == JobStatus.STOPPED) {
+                start(job, Instant.now());
+            }
+        }
+        if (status != JobStatus.FAILED && status != JobStatus.STOPPED) {
+            sendError(exchange, HTTP_CONFLICT, "Only failed or stopped jobs can be restarted, but job "
+                    + jobId + " is " + status.getValue() + ".");
+            return;
+        }
+        sendJson(exchange, HTTP_OK, Map.of("job_id", jobId, "status", JobStatus.QUEUED.getValue()));
+    }
+
+    private EmulatedJob findJob(String siteId, String jobId) {
+        EmulatedJob job = jobs.get(jobId);
+        return job != null && job.getSiteId().equals(siteId) ? job : null;
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, Map.of("code", Integer.toString(status), "message", message));
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = mapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static void sleep(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static class Builder {
+
+        private static final String DEFAULT_HOST = "127.0.0.1";
+        private static final int DEFAULT_ERROR_STATUS = 503;
+        private static final Duration DEFAULT_TOKEN_TTL = Duration.ofHours(1);
+
+        private String host = DEFAULT_HOST;
+        private int port;
+        private ObjectMapper mapper;
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private final Map<ApiUrl, LatencyDistribution> latencies = new EnumMap<>(ApiUrl.class);
+        private double errorRate;
+        private final Map<ApiUrl, Double> errorRates = new EnumMap<>(ApiUrl.class);
+        private int errorStatus = DEFAULT_ERROR_STATUS;
+        private double requestsPerSecond;
+        private int burst;
+        private LatencyDistribution queueTime =
+                LatencyDistribution.uniform(Duration.ofMillis(500), Duration.ofSeconds(2));
+        private LatencyDistribution transcodeTime =
+                LatencyDistribution.uniform(Duration.ofSeconds(3), Duration.ofSeconds(8));
+        private LatencyDistribution packageTime =
+                LatencyDistribution.uniform(Duration.ofSeconds(1), Duration.ofSeconds(3));
+        private double jobFailureRate;
+        private Duration tokenTtl = DEFAULT_TOKEN_TTL;
+        private Long seed;
+        private LongSupplier nanoClock = System::nanoTime;
+
+        public Builder host(String host) {
+            this.host = host;
+            return this;
+        }
+
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder mapper(ObjectMapper mapper) {
+            this.mapper = mapper;
+            return this;
+        }
+
+        public Builder latency(LatencyDistribution latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        public Builder latency(ApiUrl apiUrl, LatencyDistribution latency) {
+            this.latencies.put(apiUrl, latency);
+            return this;
+        }
+
+        public Builder errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        public Builder errorRate(ApiUrl apiUrl, double errorRate) {
+            this.errorRates.put(apiUrl, errorRate);
+            return this;
+        }
+
+        public Builder errorStatus(int errorStatus) {
+            this.errorStatus = errorStatus;
+            return this;
+        }
+
+        public Builder rateLimit(double requestsPerSecond, int burst) {
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+            return this;
+        }
+
+        public Builder queueTime(LatencyDistribution queueTime) {
+            this.queueTime = queueTime;
+            return this;
+        }
+
+        public Builder transcodeTime(LatencyDistribution transcodeTime) {
+            this.transcodeTime = transcodeTime;
+            return this;
+        }
+
+        public Builder packageTime(LatencyDistribution packageTime) {
+            this.packageTime = packageTime;
+            return this;
+        }
+
+        public Builder jobFailureRate(double jobFailureRate) {
+            this.jobFailureRate = jobFailureRate;
+            return this;
+        }
+
+        public Builder tokenTtl(Duration tokenTtl) {
+            this.tokenTtl = tokenTtl;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        Builder nanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        public TnpEmulator build() {
+            validate();
+            Map<ApiUrl, LatencyDistribution> routeLatencies = new EnumMap<>(ApiUrl.class);
+            Map<ApiUrl, Double> routeErrorRates = new EnumMap<>(ApiUrl.class);
+            for (ApiUrl apiUrl : ApiUrl.values()) {
+                routeLatencies.put(apiUrl, latencies.getOrDefault(apiUrl, latency));
+                routeErrorRates.put(apiUrl, errorRates.getOrDefault(apiUrl, errorRate));
+            }
+            TokenBucket rateLimiter = requestsPerSecond > 0
+                    ? new TokenBucket(requestsPerSecond, burst, nanoClock)
+                    : null;
+            try {
+                return new TnpEmulator(new InetSocketAddress(host, port), mapper != null ? mapper : new ObjectMapper(),
+                        routeLatencies, routeErrorRates, errorStatus, rateLimiter, queueTime, transcodeTime,
+                        packageTime, jobFailureRate, tokenTtl, seed != null ? new Random(seed) : new Random(),
+                        nanoClock);
+            } catch (IOException e) {
+                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                        "Failed to bind the TnpEmulator to " + host + ":" + port + ".", e);
+            }
+        }
+
+        private void validate() {
+            if (host == null || host.isBlank()) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'host' field is required when creating a TnpEmulator.");
+            }
+            if (port < 0 || port > 65535) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'port' must be between 0 and 65535 when creating a TnpEmulator.");
+            }
+            if (latency == null || latencies.containsValue(null)) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "Every 'latency' must be set when creating a TnpEmulator.");
+            }
+            if (queueTime == null || transcodeTime == null || packageTime == null) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'queueTime', 'transcodeTime' and 'packageTime' fields are required when creating a TnpEmulator.");
+            }
+            if (!isRate(errorRate) || !errorRates.values().stream().allMatch(Builder::isRate)
+                    || !isRate(jobFailureRate)) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'errorRate' and 'jobFailureRate' must be between 0 and 1 when creating a TnpEmulator.");
+            }
+            if (errorStatus < 400 || errorStatus > 599) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'errorStatus' must be a 4xx or 5xx status code when creating a TnpEmulator.");
+            }
+            if (requestsPerSecond < 0 || (requestsPerSecond > 0 && burst < 1)) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'requestsPerSecond' must not be negative and 'burst' must be at least 1 when creating a TnpEmulator.");
+            }
+            if (tokenTtl == null || tokenTtl.isNegative() || tokenTtl.isZero()) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'tokenTtl' must be positive when creating a TnpEmulator.");
+            }
+        }
+
+        private static boolean isRate(Double rate) {
+            return rate != null && rate >= 0 && rate <= 1;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.doverunner.sample.tnp.emulator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+final class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double permits;
+    private long refilledAt;
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.nanoClock = nanoClock;
+        this.permits = burst;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    // Returns 0 when a permit was taken, otherwise how long until the next one is available.
+    synchronized long tryAcquire() {
+        long now = nanoClock.getAsLong();
+        permits = Math.min(capacity, permits + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+        if (permits >= 1) {
+            permits--;
+            return 0;
+        }
+        return (long) Math.ceil((1 - permits) / permitsPerNano);
+    }
+}
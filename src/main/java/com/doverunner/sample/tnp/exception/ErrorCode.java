@@ -5,6 +5,9 @@ public enum ErrorCode {
     MISSING_REQUIRED_VALUE("E001", "Required input value is missing."),
     OUT_OF_RANGE_VALUE("E002", "Input value is out of the allowed range."),
     INVALID_VALUE("E003", "Input value is invalid."),
+    API_REQUEST_FAILED("E004", "The TnP API returned an error response."),
+    API_CONNECTION_FAILED("E005", "Failed to communicate with the TnP API."),
+    CIRCUIT_OPEN("E006", "The TnP API endpoint is temporarily unavailable."),
     ;
 
     private final String code;
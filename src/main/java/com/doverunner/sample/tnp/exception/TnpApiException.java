@@ -0,0 +1,42 @@
+package com.doverunner.sample.tnp.exception;
+
+import java.time.Duration;
+
+public class TnpApiException extends TnpCustomException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+    private final String responseBody;
+    private final Duration retryAfter;
+
+    public TnpApiException(int statusCode, String responseBody) {
+        this(statusCode, responseBody, null);
+    }
+
+    public TnpApiException(int statusCode, String responseBody, Duration retryAfter) {
+        super(ErrorCode.API_REQUEST_FAILED, buildDetailMessage(statusCode, responseBody));
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+        this.retryAfter = retryAfter;
+    }
+
+    private static String buildDetailMessage(int statusCode, String responseBody) {
+        if (responseBody == null || responseBody.isBlank()) {
+            return "HTTP status " + statusCode;
+        }
+        return "HTTP status " + statusCode + ", response: " + responseBody;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
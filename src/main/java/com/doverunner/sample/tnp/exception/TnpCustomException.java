@@ -10,11 +10,25 @@ public class TnpCustomException extends RuntimeException {
     }
 
     public TnpCustomException(ErrorCode errorCode, String detailMessage) {
-        super(errorCode.getMessage());
+        this(errorCode, detailMessage, null);
+    }
+
+    public TnpCustomException(ErrorCode errorCode, String detailMessage, Throwable cause) {
+        this(errorCode, detailMessage, cause, true);
+    }
+
+    protected TnpCustomException(ErrorCode errorCode, String detailMessage, Throwable cause,
+                                 boolean writableStackTrace) {
+        super(errorCode.getMessage(), cause, true, writableStackTrace);
         this.errorCode = errorCode;
         this.detailMessage = detailMessage;
     }
 
+    // For validation failures, where the message names the field and a stack trace only costs CPU.
+    public static TnpCustomException withoutStackTrace(ErrorCode errorCode, String detailMessage) {
+        return new TnpCustomException(errorCode, detailMessage, null, false);
+    }
+
     public ErrorCode getErrorCode() {
         return errorCode;
     }
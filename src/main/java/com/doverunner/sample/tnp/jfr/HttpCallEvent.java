@@ -0,0 +1,47 @@
+package com.doverunner.sample.tnp.jfr;
+
+import com.doverunner.sample.tnp.constant.RegionCode;
+import com.doverunner.sample.tnp.constant.web.ApiUrl;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.doverunner.tnp.HttpCall")
+@Label("TnP HTTP Call")
+@Description("One HTTP exchange with the TnP API, from send until the response body is parsed")
+public final class HttpCallEvent extends TnpEvent {
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Region")
+    private String region;
+
+    @Label("Job ID")
+    private String jobId;
+
+    @Label("Status Code")
+    private int statusCode;
+
+    @Label("Time To Response Headers")
+    @Timespan(Timespan.NANOSECONDS)
+    private long headersTime;
+
+    public void finish(ApiUrl apiUrl, RegionCode region, String jobId, String jobName, String contentId,
+                       int statusCode, long headersNanos) {
+        if (shouldCommit()) {
+            setJob(jobName, contentId);
+            this.endpoint = apiUrl.name();
+            this.method = apiUrl.getMethod();
+            this.region = region != null ? region.name() : null;
+            this.jobId = jobId;
+            this.statusCode = statusCode;
+            this.headersTime = headersNanos;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.doverunner.sample.tnp.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.doverunner.tnp.JobBuild")
+@Label("Job Build")
+@Description("Building and validating a Job with Job.Builder")
+public final class JobBuildEvent extends TnpEvent {
+
+    @Label("Valid")
+    private boolean valid;
+
+    public void finish(String jobName, String contentId, boolean valid) {
+        if (shouldCommit()) {
+            setJob(jobName, contentId);
+            this.valid = valid;
+            commit();
+        }
+    }
+}
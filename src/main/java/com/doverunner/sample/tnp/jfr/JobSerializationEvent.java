@@ -0,0 +1,24 @@
+package com.doverunner.sample.tnp.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.doverunner.tnp.JobSerialization")
+@Label("Job Serialization")
+@Description("Serializing a Job into a request body")
+public final class JobSerializationEvent extends TnpEvent {
+
+    @Label("Body Size")
+    @DataAmount
+    private long bodySize;
+
+    public void finish(String jobName, String contentId, long bodySize) {
+        if (shouldCommit()) {
+            setJob(jobName, contentId);
+            this.bodySize = bodySize;
+            commit();
+        }
+    }
+}
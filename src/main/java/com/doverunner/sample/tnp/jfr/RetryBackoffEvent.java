@@ -0,0 +1,38 @@
+package com.doverunner.sample.tnp.jfr;
+
+import com.doverunner.sample.tnp.constant.web.ApiUrl;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("com.doverunner.tnp.RetryBackoff")
+@Label("TnP Retry Backoff")
+@Description("Waiting before a TnP API call is retried")
+public final class RetryBackoffEvent extends TnpEvent {
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    @Label("Attempt")
+    private int attempt;
+
+    @Label("Planned Delay")
+    @Timespan(Timespan.MILLISECONDS)
+    private long plannedDelay;
+
+    @Label("Failure")
+    private String failure;
+
+    public void finish(ApiUrl apiUrl, String jobName, String contentId, int attempt, long plannedDelayMillis,
+                       Throwable failure) {
+        if (shouldCommit()) {
+            setJob(jobName, contentId);
+            this.endpoint = apiUrl.name();
+            this.attempt = attempt;
+            this.plannedDelay = plannedDelayMillis;
+            this.failure = failure != null ? failure.toString() : null;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.doverunner.sample.tnp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+@Category("TnP")
+@StackTrace(false)
+abstract class TnpEvent extends Event {
+
+    // Not private: JFR only records superclass fields that subclasses can see.
+    @Label("Job Name")
+    String jobName;
+
+    @Label("Content ID")
+    String contentId;
+
+    void setJob(String jobName, String contentId) {
+        this.jobName = jobName;
+        this.contentId = contentId;
+    }
+}
@@ -0,0 +1,27 @@
+package com.doverunner.sample.tnp.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timestamp;
+
+@Name("com.doverunner.tnp.TokenRefresh")
+@Label("TnP Token Refresh")
+@Description("Fetching a new auth token; job fields stay empty because a refresh is shared by all jobs")
+public final class TokenRefreshEvent extends TnpEvent {
+
+    @Label("Success")
+    private boolean success;
+
+    @Label("Expires At")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    private long expiresAt;
+
+    public void finish(boolean success, long expiresAtMillis) {
+        if (shouldCommit()) {
+            this.success = success;
+            this.expiresAt = expiresAtMillis;
+            commit();
+        }
+    }
+}
@@ -2,15 +2,20 @@ package com.doverunner.sample.tnp.job;
 
 import com.doverunner.sample.tnp.job.input.InputFile;
 import com.doverunner.sample.tnp.job.output.transcoding.Transcoding;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.doverunner.sample.tnp.exception.ErrorCode;
-import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.jfr.JobBuildEvent;
 import com.doverunner.sample.tnp.job.input.Input;
 import com.doverunner.sample.tnp.job.output.Output;
+import com.doverunner.sample.tnp.validation.ValidationResult;
 
 @JsonInclude(Include.NON_NULL)
+@JsonDeserialize(builder = Job.Builder.class)
 public class Job {
 
     @JsonProperty("job_name")
@@ -25,71 +30,127 @@ public class Job {
     @JsonProperty("output")
     private final Output output;
 
-    private Job(String jobName, String contentId, Input input, Output output) {
+    private final JobTemplate template;
+
+    private Job(String jobName, String contentId, Input input, Output output, JobTemplate template) {
         this.jobName = jobName;
         this.contentId = contentId;
         this.input = input;
         this.output = output;
+        this.template = template;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public String getContentId() {
+        return contentId;
+    }
+
+    @JsonIgnore
+    public JobTemplate getTemplate() {
+        return template;
+    }
+
+    public Input getInput() {
+        return input;
     }
 
+    public Output getOutput() {
+        return output;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private String jobName;
         private String contentId;
         private Input input;
         private Output output;
+        private JobTemplate template;
 
+        @JsonProperty("job_name")
         public Builder jobName(String jobName) {
             this.jobName = jobName;
             return this;
         }
 
+        @JsonProperty("content_id")
         public Builder contentId(String contentId) {
             this.contentId = contentId;
             return this;
         }
 
+        @JsonProperty("input")
         public Builder input(Input input) {
             this.input = input;
             return this;
         }
 
+        @JsonProperty("output")
         public Builder output(Output output) {
             this.output = output;
+            this.template = null;
+            return this;
+        }
+
+        @JsonIgnore
+        Builder template(JobTemplate template) {
+            this.output = template.getOutput();
+            this.template = template;
             return this;
         }
 
         public Job build() {
-            validateRequiredFields();
-            validateAudioInfo();
-            return new Job(jobName, contentId, input, output);
+            JobBuildEvent event = new JobBuildEvent();
+            event.begin();
+            boolean valid = false;
+            try {
+                validate().throwIfInvalid();
+                valid = true;
+                return new Job(jobName, contentId, input, output, template);
+            } finally {
+                event.finish(jobName, contentId, valid);
+            }
+        }
+
+        public ValidationResult validate() {
+            ValidationResult.Builder result = new ValidationResult.Builder();
+            validateRequiredFields(result);
+            if (input != null && output != null) {
+                validateAudioInfo(result);
+            }
+            return result.build();
         }
 
-        private void validateRequiredFields() {
+        private void validateRequiredFields(ValidationResult.Builder result) {
             if (jobName == null || jobName.isBlank()) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("jobName", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'jobName' field is required when creating a Job.");
             }
             if (contentId == null || contentId.isBlank()) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("contentId", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'contentId' field is required when creating a Job.");
             }
             if (input == null) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("input", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'input' field is required when creating a Job.");
             }
             if (output == null) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("output", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'output' field is required when creating a Job.");
             }
         }
 
-        private void validateAudioInfo() {
+        private void validateAudioInfo(ValidationResult.Builder result) {
             boolean hasAudioInfoInInput = input.getFiles().stream().anyMatch(InputFile::hasAudioInfo);
-            boolean hasAudioInfoInOutput = output.getTranscodings().stream().anyMatch(Transcoding::hasAudioInfo);
+            boolean hasAudioInfoInOutput = template != null
+                    ? template.hasAudioInfo()
+                    : output.getTranscodings().stream().anyMatch(Transcoding::hasAudioInfo);
 
             if (hasAudioInfoInInput != hasAudioInfoInOutput) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("output", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The audio information in 'input' and 'output' must be consistent when creating a Job.");
             }
         }
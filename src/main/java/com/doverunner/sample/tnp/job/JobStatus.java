@@ -0,0 +1,45 @@
+package com.doverunner.sample.tnp.job;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum JobStatus {
+
+    QUEUED("queued", false),
+    TRANSCODING("transcoding", false),
+    PACKAGING("packaging", false),
+    COMPLETED("completed", true),
+    FAILED("failed", true),
+    STOPPED("stopped", true),
+    UNKNOWN("unknown", false);
+
+    private final String value;
+    private final boolean terminal;
+
+    JobStatus(String value, boolean terminal) {
+        this.value = value;
+        this.terminal = terminal;
+    }
+
+    @JsonCreator
+    public static JobStatus from(String value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        for (JobStatus status : values()) {
+            if (status.value.equalsIgnoreCase(value.trim())) {
+                return status;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isTerminal() {
+        return terminal;
+    }
+}
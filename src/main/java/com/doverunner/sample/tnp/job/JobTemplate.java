@@ -0,0 +1,119 @@
+package com.doverunner.sample.tnp.job;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.input.Input;
+import com.doverunner.sample.tnp.job.output.Output;
+import com.doverunner.sample.tnp.job.output.transcoding.Transcoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+
+// The Output is validated and serialized once; treat it as frozen after the template is built.
+public final class JobTemplate {
+
+    private final Output output;
+    private final ObjectMapper mapper;
+    private final boolean hasAudioInfo;
+    private final SerializedString outputJson;
+
+    private JobTemplate(Output output, ObjectMapper mapper, SerializedString outputJson) {
+        this.output = output;
+        this.mapper = mapper;
+        this.hasAudioInfo = output.getTranscodings().stream().anyMatch(Transcoding::hasAudioInfo);
+        this.outputJson = outputJson;
+    }
+
+    public Job newJob(String jobName, String contentId, Input input) {
+        return new Job.Builder()
+                .jobName(jobName)
+                .contentId(contentId)
+                .input(input)
+                .template(this)
+                .build();
+    }
+
+    public Output getOutput() {
+        return output;
+    }
+
+    // The mapper that wrote the cached Output JSON; a client only accepts templates built with its own codec's mapper.
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    public String getOutputJson() {
+        return outputJson.getValue();
+    }
+
+    // Writes the same JSON as the Job bean serializer, but copies the cached Output bytes instead of re-serializing.
+    public JsonSerializable bodyOf(Job job) {
+        if (job == null || job.getTemplate() != this) {
+            throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                    "Only Jobs created by this JobTemplate can be serialized with it.");
+        }
+        return new JsonSerializable.Base() {
+            @Override
+            public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+                generator.writeStartObject();
+                generator.writeStringField("job_name", job.getJobName());
+                generator.writeStringField("content_id", job.getContentId());
+                generator.writeFieldName("input");
+                provider.defaultSerializeValue(job.getInput(), generator);
+                generator.writeFieldName("output");
+                generator.writeRawValue(outputJson);
+                generator.writeEndObject();
+            }
+
+            @Override
+            public void serializeWithType(JsonGenerator generator, SerializerProvider provider,
+                                          TypeSerializer typeSerializer) throws IOException {
+                serialize(generator, provider);
+            }
+        };
+    }
+
+    boolean hasAudioInfo() {
+        return hasAudioInfo;
+    }
+
+    public static class Builder {
+
+        private Output output;
+        private ObjectMapper mapper;
+
+        public Builder output(Output output) {
+            this.output = output;
+            return this;
+        }
+
+        public Builder mapper(ObjectMapper mapper) {
+            this.mapper = mapper;
+            return this;
+        }
+
+        public JobTemplate build() {
+            validate();
+            ObjectMapper outputMapper = mapper != null ? mapper : new ObjectMapper();
+            try {
+                String json = outputMapper.writeValueAsString(output);
+                return new JobTemplate(output, outputMapper, new SerializedString(json));
+            } catch (JsonProcessingException e) {
+                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                        "Failed to serialize the 'output' when creating a JobTemplate.", e);
+            }
+        }
+
+        private void validate() {
+            if (output == null) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "The 'output' field is required when creating a JobTemplate.");
+            }
+        }
+    }
+}
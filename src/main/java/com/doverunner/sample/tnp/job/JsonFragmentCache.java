@@ -0,0 +1,40 @@
+package com.doverunner.sample.tnp.job;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+// Holds the JSON of one immutable model object, keyed by the serializer, config and generator features that wrote it
+// so differently configured writers never share bytes.
+public final class JsonFragmentCache {
+
+    private volatile Fragment fragment;
+
+    public SerializedString get(Object writer, Object config, int features) {
+        Fragment current = fragment;
+        return current != null && current.writer == writer && current.config == config && current.features == features
+                ? current.json : null;
+    }
+
+    public void put(Object writer, Object config, int features, SerializedString json) {
+        fragment = new Fragment(writer, config, features, json);
+    }
+
+    public interface Holder {
+
+        JsonFragmentCache jsonFragmentCache();
+    }
+
+    private static final class Fragment {
+
+        private final Object writer;
+        private final Object config;
+        private final int features;
+        private final SerializedString json;
+
+        private Fragment(Object writer, Object config, int features, SerializedString json) {
+            this.writer = writer;
+            this.config = config;
+            this.features = features;
+            this.json = json;
+        }
+    }
+}
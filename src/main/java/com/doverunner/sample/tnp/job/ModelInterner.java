@@ -0,0 +1,67 @@
+package com.doverunner.sample.tnp.job;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Intern parts bottom-up (options, tracks, transcodings, then the Output) to share sub-objects across parents.
+public final class ModelInterner {
+
+    private final Map<Object, Object> pool = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    private ModelInterner(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+        Object canonical = pool.get(value);
+        if (canonical == null) {
+            if (pool.size() >= maxSize) {
+                return value;
+            }
+            canonical = pool.putIfAbsent(value, value);
+            if (canonical == null) {
+                return value;
+            }
+        }
+        return (T) canonical;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    public void clear() {
+        pool.clear();
+    }
+
+    public static class Builder {
+
+        private static final int DEFAULT_MAX_SIZE = 10_000;
+
+        private int maxSize = DEFAULT_MAX_SIZE;
+
+        public Builder maxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public ModelInterner build() {
+            validate();
+            return new ModelInterner(maxSize);
+        }
+
+        private void validate() {
+            if (maxSize < 1) {
+                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                        "The 'maxSize' must be at least 1 when creating a ModelInterner.");
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.doverunner.sample.tnp.job;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.doverunner.sample.tnp.exception.ErrorCode;
@@ -17,14 +18,36 @@ public class Track {
         this(DEFAULT_TRACK_INDEX);
     }
 
-    public Track(int index) {
+    @JsonCreator
+    public Track(@JsonProperty("track") int index) {
         validate(index);
         this.index = index;
     }
 
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Track other = (Track) o;
+        return index == other.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(index);
+    }
+
     private void validate(int index) {
         if (index < DEFAULT_TRACK_INDEX) {
-            throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+            throw TnpCustomException.withoutStackTrace(ErrorCode.OUT_OF_RANGE_VALUE,
                     "The track index must be greater than or equal to 0.");
         }
     }
@@ -2,11 +2,15 @@ package com.doverunner.sample.tnp.job.input;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.doverunner.sample.tnp.exception.ErrorCode;
-import com.doverunner.sample.tnp.exception.TnpCustomException;
 import com.doverunner.sample.tnp.job.Track;
+import com.doverunner.sample.tnp.validation.ValidationResult;
+import java.util.Objects;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonDeserialize(builder = Audio.Builder.class)
 public class Audio {
 
     @JsonProperty("in")
@@ -15,40 +19,74 @@ public class Audio {
     @JsonProperty("remap")
     private final Track remap;
 
+    private int hash;
+
     private Audio(Track in, Track remap) {
         this.in = in;
         this.remap = remap;
     }
 
+    public Track getRemap() {
+        return remap;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Audio other = (Audio) o;
+        return Objects.equals(in, other.in)
+                && Objects.equals(remap, other.remap);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(in, remap);
+            hash = h;
+        }
+        return h;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private Track in;
         private Track remap;
 
+        @JsonProperty("in")
         public Builder in(Track in) {
             this.in = in;
             return this;
         }
 
+        @JsonProperty("remap")
         public Builder remap(Track remap) {
             this.remap = remap;
             return this;
         }
 
         public Audio build() {
-            validate();
+            validate().throwIfInvalid();
             return new Audio(in, remap);
         }
 
-        private void validate() {
+        public ValidationResult validate() {
+            ValidationResult.Builder result = new ValidationResult.Builder();
             if (in == null) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("in", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'in' field is required when creating an Audio.");
             }
             if (remap == null) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("remap", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'remap' field is required when creating an Audio.");
             }
+            return result.build();
         }
     }
 }
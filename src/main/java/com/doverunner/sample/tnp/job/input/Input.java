@@ -2,11 +2,14 @@ package com.doverunner.sample.tnp.job.input;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.doverunner.sample.tnp.exception.ErrorCode;
-import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.validation.ValidationResult;
 import java.util.List;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonDeserialize(builder = Input.Builder.class)
 public class Input {
 
     private static final int MAX_MULTI_OR_VIDEO_COUNT = 1;
@@ -30,45 +33,61 @@ public class Input {
         return files;
     }
 
+    public List<Subtitle> getSubtitles() {
+        return subtitles;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private String storageId;
         private List<InputFile> files;
         private List<Subtitle> subtitles;
 
+        @JsonProperty("storage_id")
         public Builder storageId(String storageId) {
             this.storageId = storageId;
             return this;
         }
 
+        @JsonProperty("files")
         public Builder files(List<InputFile> files) {
             this.files = files;
             return this;
         }
 
+        @JsonProperty("subtitles")
         public Builder subtitles(List<Subtitle> subtitles) {
             this.subtitles = subtitles;
             return this;
         }
 
         public Input build() {
-            validateRequiredFields();
-            validateFileTypeConstraints();
+            validate().throwIfInvalid();
             return new Input(storageId, files, subtitles);
         }
 
-        private void validateRequiredFields() {
+        public ValidationResult validate() {
+            ValidationResult.Builder result = new ValidationResult.Builder();
+            validateRequiredFields(result);
+            if (files != null) {
+                validateFileTypeConstraints(result);
+            }
+            return result.build();
+        }
+
+        private void validateRequiredFields(ValidationResult.Builder result) {
             if (storageId == null || storageId.isBlank()) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("storageId", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'storageId' field is required when creating an Input.");
             }
             if (files == null || files.isEmpty()) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("files", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'files' field is required when creating an Input.");
             }
         }
 
-        private void validateFileTypeConstraints() {
+        private void validateFileTypeConstraints(ValidationResult.Builder result) {
             if (files.size() <= MAX_MULTI_OR_VIDEO_COUNT) {
                 return;
             }
@@ -78,7 +97,7 @@ public class Input {
                     .count();
 
             if (multiOrVideoCount > MAX_MULTI_OR_VIDEO_COUNT) {
-                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                result.add("files", ErrorCode.INVALID_VALUE,
                         "The number of files with file_type 'multi' or 'video' must not exceed "
                                 + MAX_MULTI_OR_VIDEO_COUNT + " when creating an Input.");
             }
@@ -4,11 +4,14 @@ import com.doverunner.sample.tnp.job.FileType;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.doverunner.sample.tnp.exception.ErrorCode;
-import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.validation.ValidationResult;
 import java.util.List;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonDeserialize(builder = InputFile.Builder.class)
 public class InputFile {
 
     @JsonProperty("file_type")
@@ -26,6 +29,10 @@ public class InputFile {
         this.audios = audios;
     }
 
+    public List<Audio> getAudios() {
+        return audios;
+    }
+
     @JsonIgnore
     public boolean isMultiOrVideoType() {
         return fileType == FileType.VIDEO || fileType == FileType.MULTI;
@@ -35,48 +42,54 @@ public class InputFile {
         return fileType == FileType.AUDIO || fileType == FileType.MULTI;
     }
 
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private FileType fileType;
         private String filePath;
         private List<Audio> audios;
 
+        @JsonProperty("file_type")
         public Builder fileType(FileType fileType) {
             this.fileType = fileType;
             return this;
         }
 
+        @JsonProperty("file_path")
         public Builder filePath(String filePath) {
             this.filePath = filePath;
             return this;
         }
 
+        @JsonProperty("audios")
         public Builder audios(List<Audio> audios) {
             this.audios = audios;
             return this;
         }
 
         public InputFile build() {
-            validate();
+            validate().throwIfInvalid();
             return new InputFile(fileType, filePath, audios);
         }
 
-        private void validate() {
+        public ValidationResult validate() {
+            ValidationResult.Builder result = new ValidationResult.Builder();
             if (fileType == null) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("fileType", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'fileType' field is required when creating an InputFile.");
             }
 
             if (filePath == null || filePath.isBlank()) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("filePath", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'filePath' field is required when creating an InputFile.");
             }
 
             if ((fileType == FileType.AUDIO || fileType == FileType.MULTI) &&
                     (audios == null || audios.isEmpty())) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("audios", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'audios' field is required when the fileType is 'audio' or 'multi'.");
             }
+            return result.build();
         }
     }
 }
@@ -2,10 +2,13 @@ package com.doverunner.sample.tnp.job.input;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.doverunner.sample.tnp.exception.ErrorCode;
-import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.validation.ValidationResult;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonDeserialize(builder = Subtitle.Builder.class)
 public class Subtitle {
 
     @JsonProperty("file_path")
@@ -19,35 +22,44 @@ public class Subtitle {
         this.language = language;
     }
 
+    public String getLanguage() {
+        return language;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private String filePath;
         private String language;
 
+        @JsonProperty("file_path")
         public Builder filePath(String filePath) {
             this.filePath = filePath;
             return this;
         }
 
+        @JsonProperty("language")
         public Builder language(String language) {
             this.language = language;
             return this;
         }
 
         public Subtitle build() {
-            validate();
+            validate().throwIfInvalid();
             return new Subtitle(filePath, language);
         }
 
-        private void validate() {
+        public ValidationResult validate() {
+            ValidationResult.Builder result = new ValidationResult.Builder();
             if (filePath == null || filePath.isBlank()) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("filePath", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'filePath' field is required when creating a Subtitle.");
             }
             if (language == null || language.isBlank()) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("language", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'language' field is required when creating a Subtitle.");
             }
+            return result.build();
         }
     }
 }
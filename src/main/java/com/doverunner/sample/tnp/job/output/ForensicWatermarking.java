@@ -1,20 +1,40 @@
 package com.doverunner.sample.tnp.job.output;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
 
 @JsonInclude(Include.NON_NULL)
 public class ForensicWatermarking {
 
     @JsonProperty("enabled")
-    private Boolean enabled;
+    private final Boolean enabled;
 
     public ForensicWatermarking() {
         this(false);
     }
 
-    public ForensicWatermarking(Boolean enabled) {
+    @JsonCreator
+    public ForensicWatermarking(@JsonProperty("enabled") Boolean enabled) {
         this.enabled = enabled;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ForensicWatermarking other = (ForensicWatermarking) o;
+        return Objects.equals(enabled, other.enabled);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(enabled);
+    }
 }
@@ -1,17 +1,22 @@
 package com.doverunner.sample.tnp.job.output;
 
+import com.doverunner.sample.tnp.job.JsonFragmentCache;
 import com.doverunner.sample.tnp.job.output.drm.Drm;
 import com.doverunner.sample.tnp.job.output.packaging.Packaging;
 import com.doverunner.sample.tnp.job.output.transcoding.Transcoding;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.doverunner.sample.tnp.exception.ErrorCode;
-import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.validation.ValidationResult;
 import java.util.List;
+import java.util.Objects;
 
 @JsonInclude(Include.NON_NULL)
-public class Output {
+@JsonDeserialize(builder = Output.Builder.class)
+public class Output implements JsonFragmentCache.Holder {
 
     @JsonProperty("storage_id")
     private final String storageId;
@@ -37,23 +42,75 @@ public class Output {
     @JsonProperty("job_noti_id")
     private final Integer jobNotiId;
 
+    private final JsonFragmentCache jsonFragmentCache = new JsonFragmentCache();
+    private int hash;
+
     private Output(String storageId, String path, String defaultLanguage,
                    List<Transcoding> transcodings, Packaging packaging, Drm drm,
                    ForensicWatermarking forensicWatermarking, Integer jobNotiId) {
         this.storageId = storageId;
         this.path = path;
         this.defaultLanguage = defaultLanguage;
-        this.transcodings = transcodings;
+        this.transcodings = List.copyOf(transcodings);
         this.packaging = packaging;
         this.drm = drm;
         this.forensicWatermarking = forensicWatermarking;
         this.jobNotiId = jobNotiId;
     }
 
+    public String getDefaultLanguage() {
+        return defaultLanguage;
+    }
+
     public List<Transcoding> getTranscodings() {
         return transcodings;
     }
 
+    public Packaging getPackaging() {
+        return packaging;
+    }
+
+    public Drm getDrm() {
+        return drm;
+    }
+
+    @Override
+    public JsonFragmentCache jsonFragmentCache() {
+        return jsonFragmentCache;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Output other = (Output) o;
+        return Objects.equals(storageId, other.storageId)
+                && Objects.equals(path, other.path)
+                && Objects.equals(defaultLanguage, other.defaultLanguage)
+                && Objects.equals(transcodings, other.transcodings)
+                && Objects.equals(packaging, other.packaging)
+                && Objects.equals(drm, other.drm)
+                && Objects.equals(forensicWatermarking, other.forensicWatermarking)
+                && Objects.equals(jobNotiId, other.jobNotiId);
+    }
+
+    @Override
+    public int hashCode() {
+        // Cached like String.hashCode: the model is immutable, so a racy recompute stores the same value.
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(storageId, path, defaultLanguage, transcodings, packaging, drm, forensicWatermarking,
+                    jobNotiId);
+            hash = h;
+        }
+        return h;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private String storageId;
@@ -65,71 +122,81 @@ public class Output {
         private ForensicWatermarking forensicWatermarking;
         private Integer jobNotiId;
 
+        @JsonProperty("storage_id")
         public Builder storageId(String storageId) {
             this.storageId = storageId;
             return this;
         }
 
+        @JsonProperty("path")
         public Builder path(String path) {
             this.path = path;
             return this;
         }
 
+        @JsonProperty("default_language")
         public Builder defaultLanguage(String defaultLanguage) {
             this.defaultLanguage = defaultLanguage;
             return this;
         }
 
+        @JsonProperty("transcodings")
         public Builder transcodings(List<Transcoding> transcodings) {
-            this.transcodings = transcodings;
+            this.transcodings = transcodings != null ? List.copyOf(transcodings) : null;
             return this;
         }
 
+        @JsonProperty("packaging")
         public Builder packaging(Packaging packaging) {
             this.packaging = packaging;
             return this;
         }
 
+        @JsonProperty("drm")
         public Builder drm(Drm drm) {
             this.drm = drm;
             return this;
         }
 
+        @JsonProperty("forensic_watermarking")
         public Builder forensicWatermarking(ForensicWatermarking forensicWatermarking) {
             this.forensicWatermarking = forensicWatermarking;
             return this;
         }
 
+        @JsonProperty("job_noti_id")
         public Builder jobNotiId(Integer jobNotiId) {
             this.jobNotiId = jobNotiId;
             return this;
         }
 
         public Output build() {
-            validate();
+            validate().throwIfInvalid();
             return new Output(storageId, path, defaultLanguage, transcodings, packaging, drm, forensicWatermarking, jobNotiId);
         }
 
-        private void validate() {
+        public ValidationResult validate() {
+            ValidationResult.Builder result = new ValidationResult.Builder();
             if (storageId == null || storageId.isBlank()) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("storageId", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'storageId' field is required when creating Output.");
             }
 
             if (path == null || path.isBlank()) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("path", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'path' field is required when creating Output.");
             }
 
             if (transcodings == null || transcodings.isEmpty()) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("transcodings", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'transcodings' field is required when creating Output.");
             }
 
             if (packaging == null) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("packaging", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'packaging' field is required when creating Output.");
             }
+            return result.build();
         }
     }
 }
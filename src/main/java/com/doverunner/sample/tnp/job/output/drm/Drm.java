@@ -1,11 +1,16 @@
 package com.doverunner.sample.tnp.job.output.drm;
 
+import com.doverunner.sample.tnp.job.JsonFragmentCache;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import java.util.Objects;
 
 @JsonInclude(Include.NON_NULL)
-public class Drm {
+@JsonDeserialize(builder = Drm.Builder.class)
+public class Drm implements JsonFragmentCache.Holder {
 
     @JsonProperty("enabled")
     private final Boolean enabled;
@@ -13,21 +18,63 @@ public class Drm {
     @JsonProperty("option")
     private final DrmOption option;
 
+    private final JsonFragmentCache jsonFragmentCache = new JsonFragmentCache();
+    private int hash;
+
     private Drm(Boolean enabled, DrmOption option) {
         this.enabled = enabled;
         this.option = option;
     }
 
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public DrmOption getOption() {
+        return option;
+    }
+
+    @Override
+    public JsonFragmentCache jsonFragmentCache() {
+        return jsonFragmentCache;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Drm other = (Drm) o;
+        return Objects.equals(enabled, other.enabled)
+                && Objects.equals(option, other.option);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(enabled, option);
+            hash = h;
+        }
+        return h;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private Boolean enabled;
         private DrmOption option;
 
+        @JsonProperty("enabled")
         public Builder enabled(Boolean enabled) {
             this.enabled = enabled;
             return this;
         }
 
+        @JsonProperty("option")
         public Builder option(DrmOption option) {
             this.option = option;
             return this;
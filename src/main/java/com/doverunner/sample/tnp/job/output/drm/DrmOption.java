@@ -3,8 +3,12 @@ package com.doverunner.sample.tnp.job.output.drm;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import java.util.Objects;
 
 @JsonInclude(Include.NON_NULL)
+@JsonDeserialize(builder = DrmOption.Builder.class)
 public class DrmOption {
 
     @JsonProperty("multi_key")
@@ -28,6 +32,8 @@ public class DrmOption {
     @JsonProperty("generate_tracktype_manifests")
     private final Boolean generateTrackTypeManifests;
 
+    private int hash;
+
     private DrmOption(Boolean multiKey, Integer maxSdHeight, Integer maxHdHeight, Integer maxUhd1Height,
                       Boolean skipAudioEncryption, Integer clearLead, Boolean generateTrackTypeManifests) {
         this.multiKey = multiKey;
@@ -39,6 +45,52 @@ public class DrmOption {
         this.generateTrackTypeManifests = generateTrackTypeManifests;
     }
 
+    public Boolean getMultiKey() {
+        return multiKey;
+    }
+
+    public Integer getMaxSdHeight() {
+        return maxSdHeight;
+    }
+
+    public Integer getMaxHdHeight() {
+        return maxHdHeight;
+    }
+
+    public Integer getMaxUhd1Height() {
+        return maxUhd1Height;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DrmOption other = (DrmOption) o;
+        return Objects.equals(multiKey, other.multiKey)
+                && Objects.equals(maxSdHeight, other.maxSdHeight)
+                && Objects.equals(maxHdHeight, other.maxHdHeight)
+                && Objects.equals(maxUhd1Height, other.maxUhd1Height)
+                && Objects.equals(skipAudioEncryption, other.skipAudioEncryption)
+                && Objects.equals(clearLead, other.clearLead)
+                && Objects.equals(generateTrackTypeManifests, other.generateTrackTypeManifests);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(multiKey, maxSdHeight, maxHdHeight, maxUhd1Height, skipAudioEncryption, clearLead,
+                    generateTrackTypeManifests);
+            hash = h;
+        }
+        return h;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private Boolean multiKey = false;
@@ -49,36 +101,43 @@ public class DrmOption {
         private Integer clearLead = 0;
         private Boolean generateTrackTypeManifests = false;
 
+        @JsonProperty("multi_key")
         public Builder multiKey(Boolean multiKey) {
             this.multiKey = multiKey;
             return this;
         }
 
+        @JsonProperty("max_sd_height")
         public Builder maxSdHeight(Integer maxSdHeight) {
             this.maxSdHeight = maxSdHeight;
             return this;
         }
 
+        @JsonProperty("max_hd_height")
         public Builder maxHdHeight(Integer maxHdHeight) {
             this.maxHdHeight = maxHdHeight;
             return this;
         }
 
+        @JsonProperty("max_uhd1_height")
         public Builder maxUhd1Height(Integer maxUhd1Height) {
             this.maxUhd1Height = maxUhd1Height;
             return this;
         }
 
+        @JsonProperty("skip_audio_encryption")
         public Builder skipAudioEncryption(Boolean skipAudioEncryption) {
             this.skipAudioEncryption = skipAudioEncryption;
             return this;
         }
 
+        @JsonProperty("clear_lead")
         public Builder clearLead(Integer clearLead) {
             this.clearLead = clearLead;
             return this;
         }
 
+        @JsonProperty("generate_tracktype_manifests")
         public Builder generateTrackTypeManifests(Boolean generateTrackTypeManifests) {
             this.generateTrackTypeManifests = generateTrackTypeManifests;
             return this;
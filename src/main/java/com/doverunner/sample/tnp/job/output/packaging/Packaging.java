@@ -2,14 +2,19 @@ package com.doverunner.sample.tnp.job.output.packaging;
 
 import static java.lang.Boolean.*;
 
+import com.doverunner.sample.tnp.job.JsonFragmentCache;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.doverunner.sample.tnp.exception.ErrorCode;
-import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.validation.ValidationResult;
+import java.util.Objects;
 
 @JsonInclude(Include.NON_NULL)
-public class Packaging {
+@JsonDeserialize(builder = Packaging.Builder.class)
+public class Packaging implements JsonFragmentCache.Holder {
 
     @JsonProperty("dash")
     private final Boolean dash;
@@ -23,6 +28,9 @@ public class Packaging {
     @JsonProperty("option")
     private final PackagingOption option;
 
+    private final JsonFragmentCache jsonFragmentCache = new JsonFragmentCache();
+    private int hash;
+
     private Packaging(Boolean dash, Boolean hls, Boolean cmaf, PackagingOption option) {
         this.dash = dash;
         this.hls = hls;
@@ -30,6 +38,53 @@ public class Packaging {
         this.option = option;
     }
 
+    public Boolean getDash() {
+        return dash;
+    }
+
+    public Boolean getHls() {
+        return hls;
+    }
+
+    public Boolean getCmaf() {
+        return cmaf;
+    }
+
+    public PackagingOption getOption() {
+        return option;
+    }
+
+    @Override
+    public JsonFragmentCache jsonFragmentCache() {
+        return jsonFragmentCache;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Packaging other = (Packaging) o;
+        return Objects.equals(dash, other.dash)
+                && Objects.equals(hls, other.hls)
+                && Objects.equals(cmaf, other.cmaf)
+                && Objects.equals(option, other.option);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(dash, hls, cmaf, option);
+            hash = h;
+        }
+        return h;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private Boolean dash;
@@ -37,41 +92,47 @@ public class Packaging {
         private Boolean cmaf;
         private PackagingOption option;
 
+        @JsonProperty("dash")
         public Builder dash(Boolean dash) {
             this.dash = dash;
             return this;
         }
 
+        @JsonProperty("hls")
         public Builder hls(Boolean hls) {
             this.hls = hls;
             return this;
         }
 
+        @JsonProperty("cmaf")
         public Builder cmaf(Boolean cmaf) {
             this.cmaf = cmaf;
             return this;
         }
 
+        @JsonProperty("option")
         public Builder option(PackagingOption option) {
             this.option = option;
             return this;
         }
 
         public Packaging build() {
-            validate();
+            validate().throwIfInvalid();
             return new Packaging(dash, hls, cmaf, option);
         }
 
-        private void validate() {
+        public ValidationResult validate() {
+            ValidationResult.Builder result = new ValidationResult.Builder();
             if ((dash == null || !dash) && (hls == null || !hls) && (cmaf == null || !cmaf)) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("dash", ErrorCode.MISSING_REQUIRED_VALUE,
                         "At least one of 'dash', 'hls', or 'cmaf' must be true when creating Packaging.");
             }
 
             if (Boolean.TRUE.equals(cmaf) && (Boolean.TRUE.equals(dash) || Boolean.TRUE.equals(hls))) {
-                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                result.add("cmaf", ErrorCode.INVALID_VALUE,
                         "If 'cmaf' is true, both 'dash' and 'hls' must be false or null when creating Packaging.");
             }
+            return result.build();
         }
     }
 }
@@ -3,10 +3,14 @@ package com.doverunner.sample.tnp.job.output.packaging;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.doverunner.sample.tnp.exception.ErrorCode;
-import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.validation.ValidationResult;
+import java.util.Objects;
 
 @JsonInclude(Include.NON_NULL)
+@JsonDeserialize(builder = PackagingOption.Builder.class)
 public class PackagingOption {
 
     @JsonProperty("min_buffer_time")
@@ -18,12 +22,43 @@ public class PackagingOption {
     @JsonProperty("subtitle_format")
     private final SubtitleFormat subtitleFormat;
 
+    private int hash;
+
     private PackagingOption(Integer minBufferTime, Boolean enableAverageBandwidthMpd, SubtitleFormat subtitleFormat) {
         this.minBufferTime = minBufferTime;
         this.enableAverageBandwidthMpd = enableAverageBandwidthMpd;
         this.subtitleFormat = subtitleFormat;
     }
 
+    public SubtitleFormat getSubtitleFormat() {
+        return subtitleFormat;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PackagingOption other = (PackagingOption) o;
+        return Objects.equals(minBufferTime, other.minBufferTime)
+                && Objects.equals(enableAverageBandwidthMpd, other.enableAverageBandwidthMpd)
+                && Objects.equals(subtitleFormat, other.subtitleFormat);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(minBufferTime, enableAverageBandwidthMpd, subtitleFormat);
+            hash = h;
+        }
+        return h;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private static final int DEFAULT_MIN_BUFFER_TIME = 2;
@@ -32,31 +67,36 @@ public class PackagingOption {
         private Boolean enableAverageBandwidthMpd = false;
         private SubtitleFormat subtitleFormat;
 
+        @JsonProperty("min_buffer_time")
         public Builder minBufferTime(Integer minBufferTime) {
             this.minBufferTime = minBufferTime;
             return this;
         }
 
+        @JsonProperty("enable_average_bandwidth_mpd")
         public Builder enableAverageBandwidthMpd(Boolean enableAverageBandwidthMpd) {
             this.enableAverageBandwidthMpd = enableAverageBandwidthMpd;
             return this;
         }
 
+        @JsonProperty("subtitle_format")
         public Builder subtitleFormat(SubtitleFormat subtitleFormat) {
             this.subtitleFormat = subtitleFormat;
             return this;
         }
 
         public PackagingOption build() {
-            validate();
+            validate().throwIfInvalid();
             return new PackagingOption(minBufferTime, enableAverageBandwidthMpd, subtitleFormat);
         }
 
-        private void validate() {
+        public ValidationResult validate() {
+            ValidationResult.Builder result = new ValidationResult.Builder();
             if (minBufferTime != null && minBufferTime < DEFAULT_MIN_BUFFER_TIME) {
-                throw new TnpCustomException(ErrorCode.OUT_OF_RANGE_VALUE,
+                result.add("minBufferTime", ErrorCode.OUT_OF_RANGE_VALUE,
                         "The 'minBufferTime' must be at least " + DEFAULT_MIN_BUFFER_TIME + " when creating a PackagingOption.");
             }
+            return result.build();
         }
     }
 }
\ No newline at end of file
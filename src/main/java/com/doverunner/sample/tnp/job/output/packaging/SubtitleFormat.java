@@ -1,12 +1,16 @@
 package com.doverunner.sample.tnp.job.output.packaging;
 
 import com.doverunner.sample.tnp.exception.ErrorCode;
-import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.validation.ValidationResult;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import java.util.Objects;
 
 @JsonInclude(Include.NON_NULL)
+@JsonDeserialize(builder = SubtitleFormat.Builder.class)
 public class SubtitleFormat {
 
     @JsonProperty("dash")
@@ -18,43 +22,87 @@ public class SubtitleFormat {
     @JsonProperty("cmaf")
     private final String cmaf;
 
+    private int hash;
+
     private SubtitleFormat(String dash, String hls, String cmaf) {
         this.dash = dash;
         this.hls = hls;
         this.cmaf = cmaf;
     }
 
+    public String getDash() {
+        return dash;
+    }
+
+    public String getHls() {
+        return hls;
+    }
+
+    public String getCmaf() {
+        return cmaf;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SubtitleFormat other = (SubtitleFormat) o;
+        return Objects.equals(dash, other.dash)
+                && Objects.equals(hls, other.hls)
+                && Objects.equals(cmaf, other.cmaf);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(dash, hls, cmaf);
+            hash = h;
+        }
+        return h;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private String dash;
         private String hls;
         private String cmaf;
 
+        @JsonProperty("dash")
         public Builder dash(String dash) {
             this.dash = dash;
             return this;
         }
 
+        @JsonProperty("hls")
         public Builder hls(String hls) {
             this.hls = hls;
             return this;
         }
 
+        @JsonProperty("cmaf")
         public Builder cmaf(String cmaf) {
             this.cmaf = cmaf;
             return this;
         }
 
         public SubtitleFormat build() {
-            validate();
+            validate().throwIfInvalid();
             return new SubtitleFormat(dash, hls, cmaf);
         }
 
-        private void validate() {
+        public ValidationResult validate() {
+            ValidationResult.Builder result = new ValidationResult.Builder();
             if ((dash == null || dash.isBlank()) && (hls == null || hls.isBlank()) && (cmaf == null || cmaf.isBlank())) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("dash", ErrorCode.MISSING_REQUIRED_VALUE,
                         "At least one of 'dash', 'hls', or 'cmaf' must be provided when creating a SubtitleFormat.");
             }
+            return result.build();
         }
     }
 }
\ No newline at end of file
@@ -1,15 +1,19 @@
 package com.doverunner.sample.tnp.job.output.transcoding;
 
 import com.doverunner.sample.tnp.exception.ErrorCode;
-import com.doverunner.sample.tnp.exception.TnpCustomException;
 import com.doverunner.sample.tnp.job.FileType;
 import com.doverunner.sample.tnp.job.Track;
+import com.doverunner.sample.tnp.validation.ValidationResult;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import java.util.List;
+import java.util.Objects;
 
 @JsonInclude(Include.NON_NULL)
+@JsonDeserialize(builder = AudioTranscoding.Builder.class)
 public class AudioTranscoding extends BaseTranscoding {
 
     @JsonProperty("language")
@@ -18,11 +22,21 @@ public class AudioTranscoding extends BaseTranscoding {
     @JsonProperty("sources")
     private final List<Track> sources;
 
+    private int hash;
+
     public AudioTranscoding(String trackId, FileType trackType, String trackName, String codec, String language,
                             List<Track> sources) {
         super(trackId, trackType, trackName, codec);
         this.language = language;
-        this.sources = sources;
+        this.sources = sources != null ? List.copyOf(sources) : null;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public List<Track> getSources() {
+        return sources;
     }
 
     @Override
@@ -30,6 +44,27 @@ public class AudioTranscoding extends BaseTranscoding {
         return true;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        AudioTranscoding other = (AudioTranscoding) o;
+        return Objects.equals(language, other.language)
+                && Objects.equals(sources, other.sources);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 31 * super.hashCode() + Objects.hash(language, sources);
+            hash = h;
+        }
+        return h;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private String trackId;
@@ -39,46 +74,54 @@ public class AudioTranscoding extends BaseTranscoding {
         private String language;
         private List<Track> sources;
 
+        @JsonProperty("track_id")
         public Builder trackId(String trackId) {
             this.trackId = trackId;
             return this;
         }
 
+        @JsonProperty("track_type")
         public Builder trackType(FileType trackType) {
             this.trackType = trackType;
             return this;
         }
 
+        @JsonProperty("track_name")
         public Builder trackName(String trackName) {
             this.trackName = trackName;
             return this;
         }
 
+        @JsonProperty("codec")
         public Builder codec(String codec) {
             this.codec = codec;
             return this;
         }
 
+        @JsonProperty("language")
         public Builder language(String language) {
             this.language = language;
             return this;
         }
 
+        @JsonProperty("sources")
         public Builder sources(List<Track> sources) {
-            this.sources = sources;
+            this.sources = sources != null ? List.copyOf(sources) : null;
             return this;
         }
 
         public AudioTranscoding build() {
-            validate();
+            validate().throwIfInvalid();
             return new AudioTranscoding(trackId, trackType, trackName, codec, language, sources);
         }
 
-        private void validate() {
+        public ValidationResult validate() {
+            ValidationResult.Builder result = new ValidationResult.Builder();
             if (sources == null || sources.isEmpty()) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("sources", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'sources' field is required when the track_type is 'audio' during Transcoding creation.");
             }
+            return validateCommon(result, trackId, trackType, codec).build();
         }
     }
 }
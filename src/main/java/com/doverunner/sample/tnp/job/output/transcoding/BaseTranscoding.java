@@ -1,11 +1,12 @@
 package com.doverunner.sample.tnp.job.output.transcoding;
 
 import com.doverunner.sample.tnp.exception.ErrorCode;
-import com.doverunner.sample.tnp.exception.TnpCustomException;
 import com.doverunner.sample.tnp.job.FileType;
+import com.doverunner.sample.tnp.validation.ValidationResult;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
 
 @JsonInclude(Include.NON_NULL)
 public abstract class BaseTranscoding implements Transcoding {
@@ -27,21 +28,47 @@ public abstract class BaseTranscoding implements Transcoding {
         this.trackType = trackType;
         this.trackName = trackName;
         this.codec = codec;
-        validateCommon();
+        validateCommon(new ValidationResult.Builder(), trackId, trackType, codec).build().throwIfInvalid();
     }
 
-    private void validateCommon() {
+    public String getTrackId() {
+        return trackId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BaseTranscoding other = (BaseTranscoding) o;
+        return Objects.equals(trackId, other.trackId)
+                && Objects.equals(trackType, other.trackType)
+                && Objects.equals(trackName, other.trackName)
+                && Objects.equals(codec, other.codec);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(trackId, trackType, trackName, codec);
+    }
+
+    static ValidationResult.Builder validateCommon(ValidationResult.Builder result, String trackId,
+                                                   FileType trackType, String codec) {
         if (trackId == null || trackId.isBlank()) {
-            throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+            result.add("trackId", ErrorCode.MISSING_REQUIRED_VALUE,
                     "The 'trackId' field is required when creating Transcoding.");
         }
         if (trackType == null) {
-            throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+            result.add("trackType", ErrorCode.MISSING_REQUIRED_VALUE,
                     "The 'trackType' field is required when creating Transcoding.");
         }
         if (codec == null || codec.isBlank()) {
-            throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+            result.add("codec", ErrorCode.MISSING_REQUIRED_VALUE,
                     "The 'codec' field is required when creating Transcoding.");
         }
+        return result;
     }
 }
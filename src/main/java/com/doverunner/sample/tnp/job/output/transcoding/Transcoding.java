@@ -1,6 +1,16 @@
 package com.doverunner.sample.tnp.job.output.transcoding;
 
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+// track_type is already a serialized property, so it doubles as the type id without changing the JSON.
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXISTING_PROPERTY, property = "track_type",
+        visible = true)
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = VideoTranscoding.class, name = "video"),
+        @JsonSubTypes.Type(value = AudioTranscoding.class, name = "audio")
+})
 public interface Transcoding {
 
     boolean hasAudioInfo();
-}
\ No newline at end of file
+}
@@ -1,13 +1,17 @@
 package com.doverunner.sample.tnp.job.output.transcoding;
 
 import com.doverunner.sample.tnp.exception.ErrorCode;
-import com.doverunner.sample.tnp.exception.TnpCustomException;
 import com.doverunner.sample.tnp.job.FileType;
+import com.doverunner.sample.tnp.validation.ValidationResult;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import java.util.Objects;
 
 @JsonInclude(Include.NON_NULL)
+@JsonDeserialize(builder = VideoTranscoding.Builder.class)
 public class VideoTranscoding extends BaseTranscoding {
 
     @JsonProperty("height")
@@ -34,6 +38,8 @@ public class VideoTranscoding extends BaseTranscoding {
     @JsonProperty("bandwidth")
     private final Integer bandwidth;
 
+    private int hash;
+
     public VideoTranscoding(String trackId, FileType trackType, String trackName, String codec, Integer height,
                             Integer width, BitrateMode bitrateMode, Integer bitrate, Integer minBitrate,
                             Integer maxBitrate, Integer crf, Integer bandwidth) {
@@ -48,11 +54,43 @@ public class VideoTranscoding extends BaseTranscoding {
         this.bandwidth = bandwidth;
     }
 
+    public Integer getHeight() {
+        return height;
+    }
+
     @Override
     public boolean hasAudioInfo() {
         return false;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        VideoTranscoding other = (VideoTranscoding) o;
+        return Objects.equals(height, other.height)
+                && Objects.equals(width, other.width)
+                && Objects.equals(bitrateMode, other.bitrateMode)
+                && Objects.equals(bitrate, other.bitrate)
+                && Objects.equals(minBitrate, other.minBitrate)
+                && Objects.equals(maxBitrate, other.maxBitrate)
+                && Objects.equals(crf, other.crf)
+                && Objects.equals(bandwidth, other.bandwidth);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 31 * super.hashCode()
+                    + Objects.hash(height, width, bitrateMode, bitrate, minBitrate, maxBitrate, crf, bandwidth);
+            hash = h;
+        }
+        return h;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
     public static class Builder {
 
         private String trackId;
@@ -68,100 +106,114 @@ public class VideoTranscoding extends BaseTranscoding {
         private Integer crf;
         private Integer bandwidth;
 
+        @JsonProperty("track_id")
         public Builder trackId(String trackId) {
             this.trackId = trackId;
             return this;
         }
 
+        @JsonProperty("track_type")
         public Builder trackType(FileType trackType) {
             this.trackType = trackType;
             return this;
         }
 
+        @JsonProperty("track_name")
         public Builder trackName(String trackName) {
             this.trackName = trackName;
             return this;
         }
 
+        @JsonProperty("codec")
         public Builder codec(String codec) {
             this.codec = codec;
             return this;
         }
 
+        @JsonProperty("height")
         public Builder height(Integer height) {
             this.height = height;
             return this;
         }
 
+        @JsonProperty("width")
         public Builder width(Integer width) {
             this.width = width;
             return this;
         }
 
+        @JsonProperty("bitrate_mode")
         public Builder bitrateMode(BitrateMode bitrateMode) {
             this.bitrateMode = bitrateMode;
             return this;
         }
 
+        @JsonProperty("bitrate")
         public Builder bitrate(Integer bitrate) {
             this.bitrate = bitrate;
             return this;
         }
 
+        @JsonProperty("min_bitrate")
         public Builder minBitrate(Integer minBitrate) {
             this.minBitrate = minBitrate;
             return this;
         }
 
+        @JsonProperty("max_bitrate")
         public Builder maxBitrate(Integer maxBitrate) {
             this.maxBitrate = maxBitrate;
             return this;
         }
 
+        @JsonProperty("crf")
         public Builder crf(Integer crf) {
             this.crf = crf;
             return this;
         }
 
+        @JsonProperty("bandwidth")
         public Builder bandwidth(Integer bandwidth) {
             this.bandwidth = bandwidth;
             return this;
         }
 
         public VideoTranscoding build() {
-            validate();
+            validate().throwIfInvalid();
             return new VideoTranscoding(
                     trackId, trackType, trackName, codec, height, width, bitrateMode,
                     bitrate, minBitrate, maxBitrate, crf, bandwidth);
         }
 
-        private void validate() {
-            validateVideoDimensions();
-            validateBitrateConditions();
+        public ValidationResult validate() {
+            ValidationResult.Builder result = new ValidationResult.Builder();
+            validateVideoDimensions(result);
+            validateBitrateConditions(result);
+            return validateCommon(result, trackId, trackType, codec).build();
         }
 
-        private void validateVideoDimensions() {
+        private void validateVideoDimensions(ValidationResult.Builder result) {
             if (height == null) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("height", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'height' field is required when the trackType is 'video' during Transcoding creation.");
             }
             if (width == null) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("width", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'width' field is required when the trackType is 'video' during Transcoding creation.");
             }
-            if (height % 2 != 0) {
-                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+            if (height != null && height % 2 != 0) {
+                result.add("height", ErrorCode.INVALID_VALUE,
                         "The 'height' value must be an even number when creating Transcoding.");
             }
-            if (width % 2 != 0) {
-                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+            if (width != null && width % 2 != 0) {
+                result.add("width", ErrorCode.INVALID_VALUE,
                         "The 'width' value must be an even number when creating Transcoding.");
             }
         }
 
-        private void validateBitrateConditions() {
+        private void validateBitrateConditions(ValidationResult.Builder result) {
             if ((bitrateMode == null || bitrateMode == BitrateMode.CBR) && bitrate == null) {
-                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                result.add("bitrate", ErrorCode.MISSING_REQUIRED_VALUE,
                         "The 'bitrate' field is required when 'bitrate_mode' is CBR during Transcoding creation.");
             }
 
@@ -175,16 +227,18 @@ public class VideoTranscoding extends BaseTranscoding {
                 }
 
                 if ((minBitrate == null) != (maxBitrate == null)) {
-                    throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                    result.add("minBitrate", ErrorCode.INVALID_VALUE,
                             "When 'bitrate_mode' is VBR, both 'min_bitrate' and 'max_bitrate' must be set together.");
+                    return;
                 }
 
                 if (bitrate == null && minBitrate == null) {
-                    throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                    result.add("bitrate", ErrorCode.MISSING_REQUIRED_VALUE,
                             "When 'bitrate_mode' is VBR, one of the following must be provided: 'bitrate', 'min_bitrate and max_bitrate', or 'crf'.");
+                    return;
                 }
 
-                throw new TnpCustomException(ErrorCode.INVALID_VALUE,
+                result.add("bitrate", ErrorCode.INVALID_VALUE,
                         "When 'bitrate_mode' is VBR, only one of the following should be provided: 'bitrate', 'min_bitrate and max_bitrate', or 'crf'.");
             }
         }
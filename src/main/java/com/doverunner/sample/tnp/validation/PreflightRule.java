@@ -0,0 +1,9 @@
+package com.doverunner.sample.tnp.validation;
+
+import com.doverunner.sample.tnp.job.Job;
+
+@FunctionalInterface
+public interface PreflightRule {
+
+    void check(Job job, ValidationResult.Builder result);
+}
@@ -0,0 +1,141 @@
+package com.doverunner.sample.tnp.validation;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.job.Job;
+import com.doverunner.sample.tnp.job.Track;
+import com.doverunner.sample.tnp.job.input.Audio;
+import com.doverunner.sample.tnp.job.input.InputFile;
+import com.doverunner.sample.tnp.job.input.Subtitle;
+import com.doverunner.sample.tnp.job.output.Output;
+import com.doverunner.sample.tnp.job.output.drm.Drm;
+import com.doverunner.sample.tnp.job.output.drm.DrmOption;
+import com.doverunner.sample.tnp.job.output.packaging.Packaging;
+import com.doverunner.sample.tnp.job.output.packaging.SubtitleFormat;
+import com.doverunner.sample.tnp.job.output.transcoding.AudioTranscoding;
+import com.doverunner.sample.tnp.job.output.transcoding.Transcoding;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Cross-object rules the TnP API enforces after submission; checking them locally saves a round trip and a failed job.
+public final class PreflightRules {
+
+    private static final List<PreflightRule> DEFAULTS = List.of(
+            drmHeightTiers(), subtitleFormats(), audioSources(), defaultLanguage());
+
+    private PreflightRules() {
+    }
+
+    public static List<PreflightRule> defaults() {
+        return DEFAULTS;
+    }
+
+    // The configured DRM height tiers must ascend; a null or 0 tier means the server default and is not compared.
+    public static PreflightRule drmHeightTiers() {
+        return (job, result) -> {
+            Drm drm = job.getOutput().getDrm();
+            if (drm == null || !Boolean.TRUE.equals(drm.getEnabled()) || drm.getOption() == null) {
+                return;
+            }
+            DrmOption option = drm.getOption();
+            Integer sd = configuredTier(option.getMaxSdHeight());
+            Integer hd = configuredTier(option.getMaxHdHeight());
+            Integer uhd1 = configuredTier(option.getMaxUhd1Height());
+            if (sd != null && hd != null && hd <= sd) {
+                result.add("output.drm.option.maxHdHeight", ErrorCode.INVALID_VALUE,
+                        "The 'max_hd_height' must be greater than 'max_sd_height'.");
+            }
+            Integer belowUhd1 = hd != null ? hd : sd;
+            if (belowUhd1 != null && uhd1 != null && uhd1 <= belowUhd1) {
+                result.add("output.drm.option.maxUhd1Height", ErrorCode.INVALID_VALUE,
+                        "The 'max_uhd1_height' must be greater than 'max_hd_height' and 'max_sd_height'.");
+            }
+        };
+    }
+
+    // A subtitle format may only be set for a packaging format that is enabled.
+    public static PreflightRule subtitleFormats() {
+        return (job, result) -> {
+            Packaging packaging = job.getOutput().getPackaging();
+            if (packaging.getOption() == null || packaging.getOption().getSubtitleFormat() == null) {
+                return;
+            }
+            SubtitleFormat format = packaging.getOption().getSubtitleFormat();
+            checkSubtitleFormat(result, "dash", format.getDash(), packaging.getDash());
+            checkSubtitleFormat(result, "hls", format.getHls(), packaging.getHls());
+            checkSubtitleFormat(result, "cmaf", format.getCmaf(), packaging.getCmaf());
+        };
+    }
+
+    // Audio transcodings read remapped tracks, so each source must be the remap of some input audio.
+    public static PreflightRule audioSources() {
+        return (job, result) -> {
+            Set<Integer> remapped = new HashSet<>();
+            for (InputFile file : job.getInput().getFiles()) {
+                if (file.getAudios() != null) {
+                    for (Audio audio : file.getAudios()) {
+                        remapped.add(audio.getRemap().getIndex());
+                    }
+                }
+            }
+            List<Transcoding> transcodings = job.getOutput().getTranscodings();
+            for (int i = 0; i < transcodings.size(); i++) {
+                if (!(transcodings.get(i) instanceof AudioTranscoding audio) || audio.getSources() == null) {
+                    continue;
+                }
+                List<Track> sources = audio.getSources();
+                for (int j = 0; j < sources.size(); j++) {
+                    if (!remapped.contains(sources.get(j).getIndex())) {
+                        result.add("output.transcodings[" + i + "].sources[" + j + "]", ErrorCode.INVALID_VALUE,
+                                "Source track " + sources.get(j).getIndex() + " of '" + audio.getTrackId()
+                                        + "' is not the 'remap' track of any input audio.");
+                    }
+                }
+            }
+        };
+    }
+
+    // The default language must be one of the audio or subtitle languages of the job.
+    public static PreflightRule defaultLanguage() {
+        return (job, result) -> {
+            String defaultLanguage = job.getOutput().getDefaultLanguage();
+            if (defaultLanguage == null || defaultLanguage.isBlank()) {
+                return;
+            }
+            if (!languagesOf(job).contains(defaultLanguage)) {
+                result.add("output.defaultLanguage", ErrorCode.INVALID_VALUE,
+                        "The 'default_language' '" + defaultLanguage
+                                + "' does not match any audio transcoding or subtitle language.");
+            }
+        };
+    }
+
+    private static Integer configuredTier(Integer height) {
+        return height != null && height > 0 ? height : null;
+    }
+
+    private static void checkSubtitleFormat(ValidationResult.Builder result, String name, String format,
+                                            Boolean enabled) {
+        if (format != null && !format.isBlank() && !Boolean.TRUE.equals(enabled)) {
+            result.add("output.packaging.option.subtitleFormat." + name, ErrorCode.INVALID_VALUE,
+                    "The '" + name + "' subtitle format is set, but '" + name + "' packaging is not enabled.");
+        }
+    }
+
+    private static Set<String> languagesOf(Job job) {
+        Set<String> languages = new HashSet<>();
+        Output output = job.getOutput();
+        for (Transcoding transcoding : output.getTranscodings()) {
+            if (transcoding instanceof AudioTranscoding audio && audio.getLanguage() != null) {
+                languages.add(audio.getLanguage());
+            }
+        }
+        List<Subtitle> subtitles = job.getInput().getSubtitles();
+        if (subtitles != null) {
+            for (Subtitle subtitle : subtitles) {
+                languages.add(subtitle.getLanguage());
+            }
+        }
+        return languages;
+    }
+}
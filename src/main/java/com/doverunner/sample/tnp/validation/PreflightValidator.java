@@ -0,0 +1,65 @@
+package com.doverunner.sample.tnp.validation;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.Job;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PreflightValidator {
+
+    private final List<PreflightRule> rules;
+
+    private PreflightValidator(List<PreflightRule> rules) {
+        this.rules = rules;
+    }
+
+    public ValidationResult validate(Job job) {
+        ValidationResult.Builder result = new ValidationResult.Builder();
+        for (PreflightRule rule : rules) {
+            rule.check(job, result);
+        }
+        return result.build();
+    }
+
+    public List<PreflightRule> getRules() {
+        return rules;
+    }
+
+    public static class Builder {
+
+        private final List<PreflightRule> rules = new ArrayList<>();
+        private boolean defaultRules = true;
+
+        public Builder defaultRules(boolean defaultRules) {
+            this.defaultRules = defaultRules;
+            return this;
+        }
+
+        public Builder rule(PreflightRule rule) {
+            this.rules.add(rule);
+            return this;
+        }
+
+        public PreflightValidator build() {
+            validate();
+            List<PreflightRule> all = new ArrayList<>();
+            if (defaultRules) {
+                all.addAll(PreflightRules.defaults());
+            }
+            all.addAll(rules);
+            return new PreflightValidator(List.copyOf(all));
+        }
+
+        private void validate() {
+            if (rules.contains(null)) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "A 'rule' must not be null when creating a PreflightValidator.");
+            }
+            if (!defaultRules && rules.isEmpty()) {
+                throw new TnpCustomException(ErrorCode.MISSING_REQUIRED_VALUE,
+                        "At least one rule is required when default rules are disabled for a PreflightValidator.");
+            }
+        }
+    }
+}
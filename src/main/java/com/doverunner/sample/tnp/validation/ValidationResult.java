@@ -0,0 +1,81 @@
+package com.doverunner.sample.tnp.validation;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ValidationResult {
+
+    private static final ValidationResult VALID = new ValidationResult(List.of());
+
+    private final List<Violation> violations;
+
+    private ValidationResult(List<Violation> violations) {
+        this.violations = violations;
+    }
+
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    public ValidationResult withPrefix(String prefix) {
+        if (isValid()) {
+            return this;
+        }
+        List<Violation> prefixed = new ArrayList<>(violations.size());
+        for (Violation violation : violations) {
+            prefixed.add(violation.withPrefix(prefix));
+        }
+        return new ValidationResult(List.copyOf(prefixed));
+    }
+
+    // Throws the first violation, matching what fail-fast validation reported before results were collected.
+    public void throwIfInvalid() {
+        if (isValid()) {
+            return;
+        }
+        Violation first = violations.get(0);
+        throw TnpCustomException.withoutStackTrace(first.getErrorCode(), first.getMessage());
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "ValidationResult[valid]" : "ValidationResult" + violations;
+    }
+
+    public static class Builder {
+
+        private List<Violation> violations;
+
+        public Builder add(String path, ErrorCode errorCode, String message) {
+            if (violations == null) {
+                violations = new ArrayList<>();
+            }
+            violations.add(new Violation(path, errorCode, message));
+            return this;
+        }
+
+        public Builder addAll(ValidationResult result) {
+            if (!result.isValid()) {
+                if (violations == null) {
+                    violations = new ArrayList<>();
+                }
+                violations.addAll(result.violations);
+            }
+            return this;
+        }
+
+        public ValidationResult build() {
+            return violations == null ? VALID : new ValidationResult(List.copyOf(violations));
+        }
+    }
+}
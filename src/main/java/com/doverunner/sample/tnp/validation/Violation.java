@@ -0,0 +1,37 @@
+package com.doverunner.sample.tnp.validation;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+
+public final class Violation {
+
+    private final String path;
+    private final ErrorCode errorCode;
+    private final String message;
+
+    Violation(String path, ErrorCode errorCode, String message) {
+        this.path = path;
+        this.errorCode = errorCode;
+        this.message = message;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    Violation withPrefix(String prefix) {
+        return new Violation(prefix + "." + path, errorCode, message);
+    }
+
+    @Override
+    public String toString() {
+        return path + ": [" + errorCode.getCode() + "] " + message;
+    }
+}
@@ -1,5 +1,6 @@
 package com.doverunner.sample.tnp;
 
+import com.doverunner.sample.tnp.client.codec.TnpCodec;
 import com.doverunner.sample.tnp.constant.web.ApiUrl;
 import com.doverunner.sample.tnp.job.FileType;
 import com.doverunner.sample.tnp.job.Job;
@@ -19,7 +20,6 @@ import com.doverunner.sample.tnp.job.output.transcoding.AudioTranscoding;
 import com.doverunner.sample.tnp.job.output.transcoding.BitrateMode;
 import com.doverunner.sample.tnp.job.output.transcoding.Transcoding;
 import com.doverunner.sample.tnp.job.output.transcoding.VideoTranscoding;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -36,7 +36,8 @@ import org.slf4j.LoggerFactory;
 public class TnpApiTest {
 
     private static final Logger logger = LoggerFactory.getLogger(TnpApiTest.class);
-    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final TnpCodec codec = new TnpCodec.Builder().build();
+    private static final ObjectMapper mapper = codec.getMapper();
     private static final HttpClient client = HttpClient.newHttpClient();
 
     // NOTE: Please provide your actual SITE_ID, EMAIL_ID, ACCESS_KEY, and AUTH_TOKEN before executing the test cases.
@@ -63,7 +64,7 @@ public class TnpApiTest {
         HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
 
         // then
-        Map<String, Object> responseMap = mapper.readValue(response.body(), new TypeReference<>() {});
+        Map<String, Object> responseMap = codec.readerFor(TnpCodec.MAP_TYPE).readValue(response.body());
         logger.debug("get AuthToken Response:\n{}", mapper.writerWithDefaultPrettyPrinter().writeValueAsString(responseMap));
     }
 
@@ -90,14 +91,14 @@ public class TnpApiTest {
                 .uri(URI.create(url))
                 .header("Content-Type", "application/json")
                 .header("Authorization", AUTH_TOKEN)
-                .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(job)))
+                .POST(HttpRequest.BodyPublishers.ofString(codec.writerFor(Job.class).writeValueAsString(job)))
                 .build();
 
         // when
         HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
 
         // then
-        Map<String, Object> responseMap = mapper.readValue(response.body(), new TypeReference<>() {});
+        Map<String, Object> responseMap = codec.readerFor(TnpCodec.MAP_TYPE).readValue(response.body());
         logger.debug("create Job Response:\n{}", mapper.writerWithDefaultPrettyPrinter().writeValueAsString(responseMap));
     }
 
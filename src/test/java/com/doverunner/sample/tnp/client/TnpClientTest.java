@@ -0,0 +1,439 @@
+package com.doverunner.sample.tnp.client;
+
+import static com.doverunner.sample.tnp.exception.ErrorCode.API_REQUEST_FAILED;
+import static com.doverunner.sample.tnp.exception.ErrorCode.CIRCUIT_OPEN;
+import static com.doverunner.sample.tnp.exception.ErrorCode.INVALID_VALUE;
+import static com.doverunner.sample.tnp.exception.ErrorCode.MISSING_REQUIRED_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.client.breaker.CircuitBreakerRegistry;
+import com.doverunner.sample.tnp.client.response.ErrorResponse;
+import com.doverunner.sample.tnp.client.response.JobCreatedResponse;
+import com.doverunner.sample.tnp.client.response.JobDetail;
+import com.doverunner.sample.tnp.client.response.JobSummary;
+import com.doverunner.sample.tnp.client.response.TokenResponse;
+import com.doverunner.sample.tnp.constant.web.ApiUrl;
+import com.doverunner.sample.tnp.exception.TnpApiException;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.FileType;
+import com.doverunner.sample.tnp.job.Job;
+import com.doverunner.sample.tnp.job.JobStatus;
+import com.doverunner.sample.tnp.job.JobTemplate;
+import com.doverunner.sample.tnp.job.input.Input;
+import com.doverunner.sample.tnp.job.input.InputFile;
+import com.doverunner.sample.tnp.job.output.Output;
+import com.doverunner.sample.tnp.job.output.packaging.Packaging;
+import com.doverunner.sample.tnp.job.output.transcoding.VideoTranscoding;
+import com.doverunner.sample.tnp.validation.PreflightValidator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TnpClientTest {
+
+    private static final String SITE_ID = "TEST";
+
+    private final Map<String, String> receivedHeaders = new ConcurrentHashMap<>();
+    private final AtomicInteger issuedTokenCount = new AtomicInteger();
+    private final AtomicInteger remainingUnavailable = new AtomicInteger();
+    private final AtomicInteger jobRequestCount = new AtomicInteger();
+    private HttpServer server;
+    private TnpClient client;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/token/" + SITE_ID, exchange ->
+                respond(exchange, 200, "{\"token\":\"token-" + issuedTokenCount.incrementAndGet() + "\"}"));
+        server.createContext("/api/job/" + SITE_ID, exchange -> {
+            jobRequestCount.incrementAndGet();
+            receivedHeaders.put("method", exchange.getRequestMethod());
+            String query = exchange.getRequestURI().getQuery();
+            if (query != null) {
+                receivedHeaders.put("query", query);
+            }
+            receivedHeaders.put("authorization", exchange.getRequestHeaders().getFirst("Authorization"));
+            receivedHeaders.put("body", new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            String idempotencyKey = exchange.getRequestHeaders().getFirst("Idempotency-Key");
+            if (idempotencyKey != null) {
+                receivedHeaders.put("idempotencyKey", idempotencyKey);
+            }
+
+            if (remainingUnavailable.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                respond(exchange, 503, "{\"message\":\"unavailable\"}");
+                return;
+            }
+
+            if ("Bearer token-1".equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+                respond(exchange, 401, "{\"message\":\"token expired\"}");
+                return;
+            }
+            if (exchange.getRequestURI().getPath().endsWith("/404")) {
+                respond(exchange, 404, "{\"message\":\"not found\"}");
+                return;
+            }
+            respond(exchange, 200, "{\"job_id\":\"777\",\"status\":\"QUEUED\"}");
+        });
+        server.start();
+
+        client = new TnpClient.Builder()
+                .siteId(SITE_ID)
+                .authToken("valid-token")
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("createJob 호출 시 Bearer 토큰과 Job JSON을 CREATE_JOB URL로 전송해야 한다.")
+    void createJob_should_post_job_with_bearer_token() {
+        // given
+        Job job = buildJob();
+
+        // when
+        JobCreatedResponse response = client.createJob(job);
+
+        // then
+        assertThat(response.getJobId()).isEqualTo("777");
+        assertThat(response.getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(receivedHeaders.get("method")).isEqualTo("POST");
+        assertThat(receivedHeaders.get("authorization")).isEqualTo("Bearer valid-token");
+        assertThat(receivedHeaders.get("body")).contains("\"job_name\":\"job_name\"", "\"content_id\":\"content_001\"");
+    }
+
+    @Test
+    @DisplayName("JobTemplate으로 만든 Job은 미리 직렬화된 Output으로 일반 Job과 같은 본문을 전송해야 한다.")
+    void createJob_should_send_same_body_for_templated_job() {
+        // given
+        client.createJob(buildJob());
+        String plainBody = receivedHeaders.get("body");
+        JobTemplate template = new JobTemplate.Builder()
+                .output(buildOutput())
+                .mapper(client.getCodec().getMapper())
+                .build();
+
+        // when
+        client.createJob(template.newJob("job_name", "content_001", buildInput()));
+
+        // then
+        assertThat(receivedHeaders.get("body")).isEqualTo(plainBody);
+    }
+
+    @Test
+    @DisplayName("클라이언트 코덱과 다른 mapper로 만든 JobTemplate의 Job은 전송하지 않고 예외를 던져야 한다.")
+    void createJob_should_reject_template_built_with_other_mapper() {
+        // given
+        JobTemplate template = new JobTemplate.Builder().output(buildOutput()).build();
+        receivedHeaders.clear();
+
+        // when
+        Throwable throwable = catchThrowable(
+                () -> client.createJob(template.newJob("job_name", "content_001", buildInput())));
+
+        // then
+        assertThat(throwable).isInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(INVALID_VALUE);
+        assertThat(receivedHeaders).doesNotContainKey("body");
+    }
+
+    @Test
+    @DisplayName("getJobDetail 호출 시 GET_JOB_DETAIL URL로 GET 요청을 전송해야 한다.")
+    void getJobDetail_should_send_get_request() {
+        // when
+        JobDetail response = client.getJobDetail("777");
+
+        // then
+        assertThat(response.getJobId()).isEqualTo("777");
+        assertThat(response.getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(receivedHeaders.get("method")).isEqualTo("GET");
+    }
+
+    @Test
+    @DisplayName("API가 오류 상태 코드를 반환하면 TnpApiException이 발생해야 한다.")
+    void getJobDetail_should_throw_when_status_is_not_success() {
+        // when
+        Throwable throwable = catchThrowable(() -> client.getJobDetail("404"));
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpApiException.class);
+        TnpApiException ex = (TnpApiException) throwable;
+        assertThat(ex.getErrorCode()).isEqualTo(API_REQUEST_FAILED);
+        assertThat(ex.getStatusCode()).isEqualTo(404);
+        assertThat(ex.getResponseBody()).contains("not found");
+        assertThat(ErrorResponse.from(ex).getMessage()).isEqualTo("not found");
+    }
+
+    @Test
+    @DisplayName("createJobAsync 호출 시 블로킹 없이 응답을 CompletableFuture로 반환해야 한다.")
+    void createJobAsync_should_complete_with_response() {
+        // given
+        Job job = buildJob();
+
+        // when
+        CompletableFuture<JobCreatedResponse> future = client.createJobAsync(job);
+
+        // then
+        assertThat(future.join().getJobId()).isEqualTo("777");
+        assertThat(receivedHeaders.get("method")).isEqualTo("POST");
+    }
+
+    @Test
+    @DisplayName("여러 비동기 요청을 동시에 전송해도 모든 응답을 받아야 한다.")
+    void getJobDetailAsync_should_complete_all_concurrent_requests() {
+        // given
+        int requestCount = 100;
+
+        // when
+        List<CompletableFuture<JobDetail>> futures = IntStream.range(0, requestCount)
+                .mapToObj(i -> client.getJobDetailAsync(String.valueOf(i)))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(futures).allSatisfy(future -> assertThat(future.join().getStatus()).isEqualTo(JobStatus.QUEUED));
+    }
+
+    @Test
+    @DisplayName("비동기 요청에서 API가 오류 상태 코드를 반환하면 TnpApiException으로 실패해야 한다.")
+    void getJobDetailAsync_should_fail_when_status_is_not_success() {
+        // when
+        Throwable throwable = catchThrowable(() -> client.getJobDetailAsync("404").join());
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(CompletionException.class);
+        assertThat(throwable.getCause()).isExactlyInstanceOf(TnpApiException.class);
+        assertThat(((TnpApiException) throwable.getCause()).getStatusCode()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("회로가 열려 있으면 비동기 요청은 예외를 던지지 않고 CIRCUIT_OPEN으로 실패한 future를 반환해야 한다.")
+    void getAuthTokenAsync_should_return_failed_future_when_circuit_is_open() {
+        // given
+        CircuitBreakerRegistry circuitBreakers = new CircuitBreakerRegistry.Builder()
+                .slidingWindowSize(1)
+                .minimumCalls(1)
+                .build();
+        TnpClient credentialClient = new TnpClient.Builder()
+                .siteId(SITE_ID)
+                .emailId("user@example.com")
+                .accessKey("access-key")
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .circuitBreakers(circuitBreakers)
+                .build();
+        circuitBreakers.get("127.0.0.1:" + server.getAddress().getPort())
+                .acquirePermit()
+                .release(new ConnectException("refused"));
+
+        // when
+        CompletableFuture<TokenResponse> future = credentialClient.getAuthTokenAsync();
+        Throwable throwable = catchThrowable(future::join);
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(CompletionException.class);
+        assertThat(throwable.getCause()).isInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable.getCause()).getErrorCode()).isEqualTo(CIRCUIT_OPEN);
+        assertThat(issuedTokenCount).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("자격 증명으로 생성한 클라이언트는 401 응답을 받으면 토큰을 재발급받아 한 번 재시도해야 한다.")
+    void getJobDetail_should_refresh_token_and_retry_when_unauthorized() {
+        // given
+        TnpClient credentialClient = new TnpClient.Builder()
+                .siteId(SITE_ID)
+                .emailId("user@example.com")
+                .accessKey("access-key")
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .build();
+
+        // when
+        JobDetail response = credentialClient.getJobDetail("777");
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(receivedHeaders.get("authorization")).isEqualTo("Bearer token-2");
+        assertThat(issuedTokenCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("멱등 요청이 일시적인 503 응답을 받으면 재시도하여 성공해야 한다.")
+    void getJobDetail_should_retry_when_service_is_unavailable() {
+        // given
+        remainingUnavailable.set(2);
+
+        // when
+        JobDetail response = client.getJobDetail("777");
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(JobStatus.QUEUED);
+        assertThat(jobRequestCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("preflightValidator를 지정하면 교차 검증에 실패한 Job은 API를 호출하지 않고 거절해야 한다.")
+    void createJob_should_reject_job_failing_preflight_without_calling_api() {
+        // given
+        TnpClient preflightClient = new TnpClient.Builder()
+                .siteId(SITE_ID)
+                .authToken("valid-token")
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .preflightValidator(new PreflightValidator.Builder().build())
+                .build();
+        Job job = new Job.Builder()
+                .jobName("job_name")
+                .contentId("content_001")
+                .input(buildInput())
+                .output(new Output.Builder()
+                        .storageId("storage-001")
+                        .path("/output/path")
+                        .defaultLanguage("fra")
+                        .transcodings(buildOutput().getTranscodings())
+                        .packaging(new Packaging.Builder().dash(true).build())
+                        .build())
+                .build();
+
+        // when
+        Throwable throwable = catchThrowable(() -> preflightClient.createJob(job));
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(INVALID_VALUE);
+        assertThat(jobRequestCount).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("중복 방지 키 없이 createJob이 실패하면 중복 생성을 막기 위해 재시도하지 않아야 한다.")
+    void createJob_should_not_retry_without_dedupe_key() {
+        // given
+        remainingUnavailable.set(1);
+
+        // when
+        Throwable throwable = catchThrowable(() -> client.createJob(buildJob()));
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpApiException.class);
+        assertThat(((TnpApiException) throwable).getStatusCode()).isEqualTo(503);
+        assertThat(jobRequestCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("중복 방지 키를 지정한 createJobAsync는 Idempotency-Key 헤더와 함께 재시도해야 한다.")
+    void createJobAsync_should_retry_with_idempotency_key() {
+        // given
+        remainingUnavailable.set(1);
+
+        // when
+        JobCreatedResponse response = client.createJobAsync(buildJob(), "dedupe-001").join();
+
+        // then
+        assertThat(response.getJobId()).isEqualTo("777");
+        assertThat(jobRequestCount).hasValue(2);
+        assertThat(receivedHeaders.get("idempotencyKey")).isEqualTo("dedupe-001");
+    }
+
+    @Test
+    @DisplayName("stopJob 호출 시 형식이 정해지지 않은 응답은 Map으로 반환해야 한다.")
+    void stopJob_should_return_response_as_map() {
+        // when
+        Map<String, Object> response = client.stopJob("777");
+
+        // then
+        assertThat(response).containsEntry("job_id", "777");
+        assertThat(receivedHeaders.get("method")).isEqualTo(ApiUrl.STOP_JOB.getMethod());
+    }
+
+    @Test
+    @DisplayName("streamJobs 호출 시 page와 size 쿼리 파라미터로 GET_JOB_LIST를 요청해야 한다.")
+    void streamJobs_should_request_job_list_with_paging_parameters() {
+        // when
+        List<JobSummary> jobs;
+        try (Stream<JobSummary> stream = client.streamJobs(2, 1)) {
+            jobs = stream.toList();
+        }
+
+        // then
+        assertThat(jobs).isEmpty();
+        assertThat(receivedHeaders.get("method")).isEqualTo("GET");
+        assertThat(receivedHeaders.get("query")).isEqualTo("page=1&size=2");
+    }
+
+    @Test
+    @DisplayName("siteId가 누락되면 TnpClient 생성 시 예외가 발생해야 한다.")
+    void build_should_throw_when_siteId_is_missing() {
+        // when
+        Throwable throwable = catchThrowable(() -> new TnpClient.Builder().authToken("valid-token").build());
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+        TnpCustomException ex = (TnpCustomException) throwable;
+        assertThat(ex.getErrorCode()).isEqualTo(MISSING_REQUIRED_VALUE);
+        assertThat(ex.getDetailMessage()).isEqualTo("The 'siteId' field is required when creating a TnpClient.");
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private Job buildJob() {
+        return new Job.Builder()
+                .jobName("job_name")
+                .contentId("content_001")
+                .input(buildInput())
+                .output(buildOutput())
+                .build();
+    }
+
+    private Input buildInput() {
+        return new Input.Builder()
+                .storageId("storage-002")
+                .files(List.of(new InputFile.Builder()
+                        .fileType(FileType.VIDEO)
+                        .filePath("input.mp4")
+                        .build()))
+                .build();
+    }
+
+    private Output buildOutput() {
+        return new Output.Builder()
+                .storageId("storage-001")
+                .path("/output/path")
+                .transcodings(List.of(new VideoTranscoding.Builder()
+                        .trackId("video_1")
+                        .trackType(FileType.VIDEO)
+                        .codec("h264")
+                        .height(1080)
+                        .width(1920)
+                        .bitrate(3000)
+                        .build()))
+                .packaging(new Packaging.Builder().dash(true).build())
+                .build();
+    }
+}
@@ -0,0 +1,194 @@
+package com.doverunner.sample.tnp.client.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CachingTokenProviderTest {
+
+    private final Duration refreshAhead = Duration.ofMinutes(1);
+    private final Duration ttl = Duration.ofMinutes(30);
+
+    private MutableClock clock;
+    private AtomicInteger fetchCount;
+    private CompletableFuture<AuthToken> pendingFetch;
+    private List<ScheduledTask> scheduled;
+
+    @BeforeEach
+    void setup() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        fetchCount = new AtomicInteger();
+        pendingFetch = null;
+        scheduled = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰이 유효하면 다시 발급받지 않고 캐시된 토큰을 반환해야 한다.")
+    void getToken_should_return_cached_token_when_valid() {
+        // given
+        CachingTokenProvider provider = new CachingTokenProvider(this::issueImmediately, refreshAhead, clock);
+
+        // when
+        String first = provider.getToken();
+        String second = provider.getToken();
+
+        // then
+        assertThat(first).isEqualTo("token-1");
+        assertThat(second).isEqualTo("token-1");
+        assertThat(fetchCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("동시에 여러 호출자가 토큰을 요청하면 하나의 발급 요청만 공유해야 한다.")
+    void getTokenAsync_should_share_single_in_flight_refresh() {
+        // given
+        pendingFetch = new CompletableFuture<>();
+        CachingTokenProvider provider = new CachingTokenProvider(this::issuePending, refreshAhead, clock);
+
+        // when
+        List<CompletableFuture<String>> futures = IntStream.range(0, 50)
+                .mapToObj(i -> provider.getTokenAsync())
+                .toList();
+        pendingFetch.complete(new AuthToken("token-1", clock.instant().plus(ttl)));
+
+        // then
+        assertThat(fetchCount).hasValue(1);
+        assertThat(futures).allSatisfy(future -> assertThat(future.join()).isEqualTo("token-1"));
+    }
+
+    @Test
+    @DisplayName("토큰 만료가 임박하면 기존 토큰을 반환하면서 백그라운드로 갱신해야 한다.")
+    void getTokenAsync_should_refresh_in_background_before_expiry() {
+        // given
+        CachingTokenProvider provider = new CachingTokenProvider(this::issueImmediately, refreshAhead, clock);
+        provider.getToken();
+        clock.advance(ttl.minusSeconds(30));
+
+        // when
+        String beforeRefresh = provider.getToken();
+        String afterRefresh = provider.getToken();
+
+        // then
+        assertThat(beforeRefresh).isEqualTo("token-1");
+        assertThat(afterRefresh).isEqualTo("token-2");
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("토큰을 무효화하면 다음 요청에서 새 토큰을 발급받아야 한다.")
+    void invalidate_should_force_new_token() {
+        // given
+        CachingTokenProvider provider = new CachingTokenProvider(this::issueImmediately, refreshAhead, clock);
+        String rejected = provider.getToken();
+
+        // when
+        provider.invalidate(rejected);
+        String refreshed = provider.getToken();
+
+        // then
+        assertThat(refreshed).isEqualTo("token-2");
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("토큰을 발급받으면 요청이 없어도 만료 refreshAhead 전에 갱신을 예약해야 한다.")
+    void getToken_should_schedule_refresh_before_expiry() {
+        // given
+        CachingTokenProvider provider = new CachingTokenProvider(this::issueImmediately, refreshAhead, clock,
+                this::delayed);
+        provider.getToken();
+
+        // when
+        clock.advance(ttl.minus(refreshAhead));
+        scheduled.get(0).task.run();
+
+        // then
+        assertThat(scheduled.get(0).delay).isEqualTo(ttl.minus(refreshAhead));
+        assertThat(fetchCount).hasValue(2);
+        assertThat(provider.getToken()).isEqualTo("token-2");
+        assertThat(fetchCount).hasValue(2);
+        assertThat(scheduled).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("예약된 토큰이 이미 새 토큰으로 바뀌었으면 예약된 갱신은 발급을 요청하지 않아야 한다.")
+    void scheduled_refresh_should_skip_replaced_token() {
+        // given
+        CachingTokenProvider provider = new CachingTokenProvider(this::issueImmediately, refreshAhead, clock,
+                this::delayed);
+        provider.invalidate(provider.getToken());
+        provider.getToken();
+
+        // when
+        scheduled.get(0).task.run();
+
+        // then
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    private Executor delayed(Duration delay) {
+        return task -> scheduled.add(new ScheduledTask(delay, task));
+    }
+
+    private CompletableFuture<AuthToken> issueImmediately() {
+        int count = fetchCount.incrementAndGet();
+        return CompletableFuture.completedFuture(new AuthToken("token-" + count, clock.instant().plus(ttl)));
+    }
+
+    private CompletableFuture<AuthToken> issuePending() {
+        fetchCount.incrementAndGet();
+        return pendingFetch;
+    }
+
+    private static final class ScheduledTask {
+
+        private final Duration delay;
+        private final Runnable task;
+
+        private ScheduledTask(Duration delay, Runnable task) {
+            this.delay = delay;
+            this.task = task;
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
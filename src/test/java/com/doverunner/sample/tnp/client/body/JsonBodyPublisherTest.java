@@ -0,0 +1,142 @@
+package com.doverunner.sample.tnp.client.body;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JsonBodyPublisherTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, Object> value = Map.of(
+            "job_name", "job_name",
+            "tracks", IntStream.range(0, 50).mapToObj(i -> Map.of("track_id", "track_" + i)).toList()
+    );
+
+    @Test
+    @DisplayName("여러 세그먼트로 나뉘어도 ObjectMapper와 동일한 JSON 바이트와 길이를 게시해야 한다.")
+    void subscribe_should_publish_same_bytes_as_object_mapper() throws Exception {
+        // given
+        byte[] expected = mapper.writeValueAsBytes(value);
+
+        // when
+        JsonBodyPublisher publisher = JsonBodyPublisher.of(mapper, value, 64);
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+
+        // then
+        assertThat(publisher.contentLength()).isEqualTo(expected.length);
+        assertThat(subscriber.chunks).isGreaterThan(1);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.body.toByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("재시도처럼 다시 구독해도 같은 본문을 처음부터 게시해야 한다.")
+    void subscribe_should_replay_body_for_each_subscriber() throws Exception {
+        // given
+        JsonBodyPublisher publisher = JsonBodyPublisher.of(mapper, value, 64);
+        CollectingSubscriber first = new CollectingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(first);
+
+        // when
+        CollectingSubscriber second = new CollectingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(second);
+
+        // then
+        assertThat(second.body.toByteArray()).isEqualTo(first.body.toByteArray());
+    }
+
+    @Test
+    @DisplayName("구독자가 요청한 개수만큼만 세그먼트를 전달해야 한다.")
+    void subscribe_should_honor_subscriber_demand() throws Exception {
+        // given
+        JsonBodyPublisher publisher = JsonBodyPublisher.of(mapper, value, 64);
+
+        // when
+        CollectingSubscriber subscriber = new CollectingSubscriber(2);
+        publisher.subscribe(subscriber);
+
+        // then
+        assertThat(subscriber.chunks).isEqualTo(2);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 세그먼트 없이 작은 본문도 한 번에 게시하고 완료해야 한다.")
+    void subscribe_should_complete_small_body() throws Exception {
+        // given
+        JsonBodyPublisher publisher = JsonBodyPublisher.of(mapper, List.of());
+
+        // when
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+
+        // then
+        assertThat(subscriber.body.toString()).isEqualTo("[]");
+        assertThat(subscriber.chunks).isEqualTo(1);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    @DisplayName("세그먼트는 작은 크기에서 시작해 segmentSize까지 두 배씩 커져야 한다.")
+    void of_should_grow_segments_up_to_segment_size() throws Exception {
+        // given
+        byte[] expected = mapper.writeValueAsBytes(value);
+
+        // when
+        JsonBodyPublisher publisher = JsonBodyPublisher.of(mapper, value, 600);
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+
+        // then
+        assertThat(expected.length).isGreaterThan(512 + 600);
+        assertThat(subscriber.capacities).containsExactly(JsonBodyPublisher.INITIAL_SEGMENT_SIZE, 600, 600);
+        assertThat(subscriber.body.toByteArray()).isEqualTo(expected);
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+        private final long initialDemand;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final List<Integer> capacities = new ArrayList<>();
+        private int chunks;
+        private boolean completed;
+
+        private CollectingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(initialDemand);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            byte[] bytes = new byte[item.remaining()];
+            item.get(bytes);
+            body.writeBytes(bytes);
+            capacities.add(item.capacity());
+            chunks++;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new AssertionError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
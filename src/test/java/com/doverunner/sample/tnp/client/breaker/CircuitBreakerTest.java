@@ -0,0 +1,136 @@
+package com.doverunner.sample.tnp.client.breaker;
+
+import static com.doverunner.sample.tnp.exception.ErrorCode.CIRCUIT_OPEN;
+import static com.doverunner.sample.tnp.exception.ErrorCode.OUT_OF_RANGE_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.exception.TnpApiException;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    @DisplayName("슬라이딩 윈도우의 실패율이 임계치를 넘으면 열림 상태가 되어 즉시 실패해야 한다.")
+    void acquirePermit_should_fail_fast_when_failure_rate_exceeds_threshold() {
+        // given
+        CircuitBreaker breaker = newRegistry().get("tnp.example.com");
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            breaker.acquirePermit().release(i % 2 == 0 ? serverError() : null);
+        }
+        Throwable throwable = catchThrowable(breaker::acquirePermit);
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(CIRCUIT_OPEN);
+    }
+
+    @Test
+    @DisplayName("클라이언트 오류 응답은 실패로 집계하지 않아야 한다.")
+    void release_should_not_count_client_errors_as_failures() {
+        // given
+        CircuitBreaker breaker = newRegistry().get("tnp.example.com");
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            breaker.acquirePermit().release(new TnpApiException(404, null));
+        }
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("열림 시간이 지나면 반열림 상태에서 시험 호출을 허용하고 모두 성공하면 닫혀야 한다.")
+    void acquirePermit_should_close_after_successful_half_open_trials() {
+        // given
+        CircuitBreaker breaker = openedBreaker();
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // when
+        CircuitBreaker.Permit first = breaker.acquirePermit();
+        CircuitBreaker.Permit second = breaker.acquirePermit();
+        Throwable rejected = catchThrowable(breaker::acquirePermit);
+        first.release(null);
+        second.release(null);
+
+        // then
+        assertThat(rejected).isExactlyInstanceOf(TnpCustomException.class);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("반열림 상태의 시험 호출이 실패하면 다시 열려야 한다.")
+    void release_should_reopen_when_half_open_trial_fails() {
+        // given
+        CircuitBreaker breaker = openedBreaker();
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // when
+        breaker.acquirePermit().release(serverError());
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("같은 이름으로 조회하면 같은 CircuitBreaker를 반환하고 이름이 다르면 독립적이어야 한다.")
+    void get_should_return_breaker_per_name() {
+        // given
+        CircuitBreakerRegistry registry = newRegistry();
+
+        // when
+        CircuitBreaker seoul = registry.get("seoul.example.com");
+        CircuitBreaker oregon = registry.get("oregon.example.com");
+
+        // then
+        assertThat(registry.get("seoul.example.com")).isSameAs(seoul);
+        assertThat(oregon).isNotSameAs(seoul);
+    }
+
+    @Test
+    @DisplayName("minimumCalls가 slidingWindowSize보다 크면 예외가 발생해야 한다.")
+    void build_should_throw_when_minimum_calls_exceeds_window_size() {
+        // when
+        Throwable throwable = catchThrowable(() -> new CircuitBreakerRegistry.Builder()
+                .slidingWindowSize(5)
+                .minimumCalls(6)
+                .build());
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(OUT_OF_RANGE_VALUE);
+    }
+
+    private CircuitBreaker openedBreaker() {
+        CircuitBreaker breaker = newRegistry().get("tnp.example.com");
+        for (int i = 0; i < 4; i++) {
+            breaker.acquirePermit().release(serverError());
+        }
+        return breaker;
+    }
+
+    private CircuitBreakerRegistry newRegistry() {
+        return new CircuitBreakerRegistry.Builder()
+                .failureRateThreshold(0.5)
+                .slidingWindowSize(10)
+                .minimumCalls(4)
+                .openDuration(Duration.ofSeconds(5))
+                .halfOpenCalls(2)
+                .nanoClock(nanoTime::get)
+                .build();
+    }
+
+    private TnpApiException serverError() {
+        return new TnpApiException(503, null);
+    }
+}
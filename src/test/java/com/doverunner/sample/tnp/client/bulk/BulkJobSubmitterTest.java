@@ -0,0 +1,190 @@
+package com.doverunner.sample.tnp.client.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.doverunner.sample.tnp.client.TnpClient;
+import com.doverunner.sample.tnp.client.auth.TokenProvider;
+import com.doverunner.sample.tnp.exception.TnpApiException;
+import com.doverunner.sample.tnp.job.FileType;
+import com.doverunner.sample.tnp.job.Job;
+import com.doverunner.sample.tnp.job.input.Input;
+import com.doverunner.sample.tnp.job.input.InputFile;
+import com.doverunner.sample.tnp.job.output.Output;
+import com.doverunner.sample.tnp.job.output.packaging.Packaging;
+import com.doverunner.sample.tnp.job.output.transcoding.VideoTranscoding;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BulkJobSubmitterTest {
+
+    private static final String SITE_ID = "TEST";
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+    private TnpClient client;
+
+    @BeforeEach
+    void setup() throws IOException {
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/api/job/" + SITE_ID, exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxObservedInFlight.accumulateAndGet(current, Math::max);
+            try {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                Thread.sleep(10);
+
+                byte[] response = "{\"job_id\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(body.contains("fail") ? 500 : 200, response.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(response);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        server.start();
+
+        client = new TnpClient.Builder()
+                .siteId(SITE_ID)
+                .authToken("valid-token")
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("모든 Job의 제출 결과를 스트림으로 반환하고 동시 요청 수는 maxInFlight를 넘지 않아야 한다.")
+    void submitAll_should_return_all_results_within_max_in_flight() {
+        // given
+        int maxInFlight = 4;
+        BulkJobSubmitter submitter = new BulkJobSubmitter.Builder()
+                .client(client)
+                .maxInFlight(maxInFlight)
+                .build();
+        Stream<Job> jobs = IntStream.range(0, 40).mapToObj(i -> buildJob("content_" + i));
+
+        // when
+        List<SubmissionResult> results;
+        try (Stream<SubmissionResult> stream = submitter.submitAll(jobs)) {
+            results = stream.toList();
+        }
+
+        // then
+        assertThat(results).hasSize(40).allMatch(SubmissionResult::isSuccess);
+        assertThat(maxObservedInFlight.get()).isLessThanOrEqualTo(maxInFlight);
+    }
+
+    @Test
+    @DisplayName("제출에 실패한 Job은 예외를 던지지 않고 실패 결과로 반환되어야 한다.")
+    void submitAll_should_return_failure_result_when_api_fails() {
+        // given
+        BulkJobSubmitter submitter = new BulkJobSubmitter.Builder()
+                .client(client)
+                .maxInFlight(2)
+                .build();
+        List<Job> jobs = List.of(buildJob("content_ok"), buildJob("content_fail"));
+
+        // when
+        List<SubmissionResult> results;
+        try (Stream<SubmissionResult> stream = submitter.submitAll(jobs)) {
+            results = stream.toList();
+        }
+
+        // then
+        assertThat(results).hasSize(2);
+        SubmissionResult failed = results.stream().filter(result -> !result.isSuccess()).findFirst().orElseThrow();
+        assertThat(failed.getJob().getContentId()).isEqualTo("content_fail");
+        assertThat(failed.getError()).isInstanceOf(TnpApiException.class);
+    }
+
+    @Test
+    @DisplayName("제출 중 Error가 발생해도 실패 결과로 반환되어 스트림이 끝까지 진행되어야 한다.")
+    void submitAll_should_return_failure_result_when_submission_throws_error() throws Exception {
+        // given
+        TnpClient failingClient = new TnpClient.Builder()
+                .siteId(SITE_ID)
+                .tokenProvider(new TokenProvider() {
+                    @Override
+                    public String getToken() {
+                        throw new AssertionError("token provider failed");
+                    }
+
+                    @Override
+                    public CompletableFuture<String> getTokenAsync() {
+                        return CompletableFuture.failedFuture(new AssertionError("token provider failed"));
+                    }
+                })
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .build();
+        BulkJobSubmitter submitter = new BulkJobSubmitter.Builder()
+                .client(failingClient)
+                .maxInFlight(2)
+                .build();
+        Stream<Job> jobs = IntStream.range(0, 5).mapToObj(i -> buildJob("content_" + i));
+
+        // when
+        List<SubmissionResult> results = CompletableFuture.supplyAsync(() -> {
+            try (Stream<SubmissionResult> stream = submitter.submitAll(jobs)) {
+                return stream.toList();
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(results).hasSize(5)
+                .allSatisfy(result -> assertThat(result.getError()).isInstanceOf(AssertionError.class));
+    }
+
+    private Job buildJob(String contentId) {
+        return new Job.Builder()
+                .jobName("job_name")
+                .contentId(contentId)
+                .input(new Input.Builder()
+                        .storageId("storage-002")
+                        .files(List.of(new InputFile.Builder()
+                                .fileType(FileType.VIDEO)
+                                .filePath("input.mp4")
+                                .build()))
+                        .build())
+                .output(new Output.Builder()
+                        .storageId("storage-001")
+                        .path("/output/path")
+                        .transcodings(List.of(new VideoTranscoding.Builder()
+                                .trackId("video_1")
+                                .trackType(FileType.VIDEO)
+                                .codec("h264")
+                                .height(1080)
+                                .width(1920)
+                                .bitrate(3000)
+                                .build()))
+                        .packaging(new Packaging.Builder().dash(true).build())
+                        .build())
+                .build();
+    }
+}
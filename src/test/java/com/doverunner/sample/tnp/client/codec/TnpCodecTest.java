@@ -0,0 +1,173 @@
+package com.doverunner.sample.tnp.client.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.doverunner.sample.tnp.job.FileType;
+import com.doverunner.sample.tnp.job.Job;
+import com.doverunner.sample.tnp.job.input.Input;
+import com.doverunner.sample.tnp.job.input.InputFile;
+import com.doverunner.sample.tnp.job.output.Output;
+import com.doverunner.sample.tnp.job.output.packaging.Packaging;
+import com.doverunner.sample.tnp.job.output.transcoding.VideoTranscoding;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TnpCodecTest {
+
+    @Test
+    @DisplayName("같은 타입에 대해서는 미리 만들어 둔 동일한 ObjectWriter와 ObjectReader를 반환해야 한다.")
+    void writerFor_should_return_cached_instances() {
+        // given
+        TnpCodec codec = new TnpCodec.Builder().build();
+
+        // when & then
+        assertThat(codec.writerFor(Job.class)).isSameAs(codec.writerFor(Job.class));
+        assertThat(codec.readerFor(TnpCodec.MAP_TYPE)).isSameAs(codec.readerFor(TnpCodec.MAP_TYPE));
+    }
+
+    @Test
+    @DisplayName("캐시된 ObjectWriter는 ObjectMapper와 동일한 JSON을 만들어야 한다.")
+    void writerFor_should_write_same_json_as_object_mapper() throws Exception {
+        // given
+        ObjectMapper mapper = new ObjectMapper();
+        TnpCodec codec = new TnpCodec.Builder().mapper(mapper).build();
+        Job job = buildJob();
+
+        // when
+        String json = codec.writerFor(Job.class).writeValueAsString(job);
+
+        // then
+        assertThat(json).isEqualTo(mapper.writeValueAsString(job));
+        assertThat(codec.readerFor(TnpCodec.MAP_TYPE).<Map<String, Object>>readValue(json))
+                .containsEntry("job_name", "job_name");
+    }
+
+    @Test
+    @DisplayName("바이트코드 직렬화를 켜면 Blackbird 모듈을 등록하고 기본 ObjectMapper와 같은 JSON을 읽고 써야 한다.")
+    void bytecodeSerializers_should_register_blackbird_and_keep_json() throws Exception {
+        // given
+        ObjectMapper mapper = new ObjectMapper();
+        Job job = buildJob();
+
+        // when
+        TnpCodec codec = new TnpCodec.Builder().mapper(mapper).bytecodeSerializers(true).build();
+        String json = codec.writerFor(Job.class).writeValueAsString(job);
+
+        // then
+        assertThat(codec.isBytecodeSerializers()).isTrue();
+        assertThat(codec.getMapper().getRegisteredModuleIds()).contains(BlackbirdModule.class.getName());
+        assertThat(mapper.getRegisteredModuleIds()).isEmpty();
+        assertThat(json).isEqualTo(mapper.writeValueAsString(job));
+        assertThat(codec.writerFor(Job.class).writeValueAsString(codec.readerFor(Job.class).readValue(json)))
+                .isEqualTo(json);
+    }
+
+    @Test
+    @DisplayName("하위 객체의 JSON을 캐시해도 반복 직렬화 결과는 기본 ObjectMapper와 같아야 한다.")
+    void fragmentCaching_should_replay_same_json() throws Exception {
+        // given
+        TnpCodec codec = new TnpCodec.Builder().fragmentCaching(true).build();
+        TnpCodec otherCodec = new TnpCodec.Builder().fragmentCaching(true).build();
+        Job job = buildJob();
+        String expected = new ObjectMapper().writeValueAsString(job);
+
+        // when
+        String first = codec.writerFor(Job.class).writeValueAsString(job);
+        String second = codec.writerFor(Job.class).writeValueAsString(job);
+        String other = otherCodec.writerFor(Job.class).writeValueAsString(job);
+
+        // then
+        assertThat(codec.isFragmentCaching()).isTrue();
+        assertThat(first).isEqualTo(expected);
+        assertThat(second).isEqualTo(expected);
+        assertThat(other).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("JSON 트리로 변환할 때는 캐시된 JSON 대신 실제 노드를 만들어야 한다.")
+    void fragmentCaching_should_build_real_nodes_for_trees() throws Exception {
+        // given
+        TnpCodec codec = new TnpCodec.Builder().fragmentCaching(true).build();
+        Job job = buildJob();
+        codec.writerFor(Job.class).writeValueAsString(job);
+
+        // when
+        JsonNode tree = codec.getMapper().valueToTree(job);
+
+        // then
+        assertThat(tree.get("output").isObject()).isTrue();
+        assertThat(tree.get("output").get("packaging").get("dash").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("하위 객체의 JSON을 캐시해도 pretty printer와 생성기 설정은 그대로 반영되어야 한다.")
+    void fragmentCaching_should_follow_writer_configuration() throws Exception {
+        // given
+        TnpCodec codec = new TnpCodec.Builder().fragmentCaching(true).build();
+        ObjectMapper plainMapper = new ObjectMapper();
+        Job job = buildJob();
+        codec.writerFor(Job.class).writeValueAsString(job);
+
+        // when
+        String pretty = codec.writerFor(Job.class).withDefaultPrettyPrinter().writeValueAsString(job);
+        String numbersAsStrings = codec.writerFor(Job.class)
+                .with(JsonWriteFeature.WRITE_NUMBERS_AS_STRINGS).writeValueAsString(job);
+        String compact = codec.writerFor(Job.class).writeValueAsString(job);
+
+        // then
+        assertThat(pretty).isEqualTo(plainMapper.writerWithDefaultPrettyPrinter().writeValueAsString(job));
+        assertThat(numbersAsStrings).isEqualTo(plainMapper.writer()
+                .with(JsonWriteFeature.WRITE_NUMBERS_AS_STRINGS).writeValueAsString(job));
+        assertThat(compact).isEqualTo(plainMapper.writeValueAsString(job));
+    }
+
+    @Test
+    @DisplayName("하위 객체 JSON 캐시는 기본으로 꺼져 있고, 켜더라도 전달한 ObjectMapper에는 모듈을 등록하지 않아야 한다.")
+    void fragmentCaching_should_be_opt_in_and_leave_caller_mapper_untouched() {
+        // given
+        ObjectMapper mapper = new ObjectMapper();
+
+        // when
+        TnpCodec defaultCodec = new TnpCodec.Builder().build();
+        TnpCodec cachingCodec = new TnpCodec.Builder().mapper(mapper).fragmentCaching(true).build();
+
+        // then
+        assertThat(defaultCodec.isFragmentCaching()).isFalse();
+        assertThat(cachingCodec.getMapper()).isNotSameAs(mapper);
+        assertThat(cachingCodec.getMapper().getRegisteredModuleIds()).contains("tnp-fragment-cache");
+        assertThat(mapper.getRegisteredModuleIds()).doesNotContain("tnp-fragment-cache");
+    }
+
+    private Job buildJob() {
+        return new Job.Builder()
+                .jobName("job_name")
+                .contentId("content_001")
+                .input(new Input.Builder()
+                        .storageId("storage-002")
+                        .files(List.of(new InputFile.Builder()
+                                .fileType(FileType.VIDEO)
+                                .filePath("input.mp4")
+                                .build()))
+                        .build())
+                .output(new Output.Builder()
+                        .storageId("storage-001")
+                        .path("/output/path")
+                        .transcodings(List.of(new VideoTranscoding.Builder()
+                                .trackId("video_1")
+                                .trackType(FileType.VIDEO)
+                                .codec("h264")
+                                .height(1080)
+                                .width(1920)
+                                .bitrate(3000)
+                                .build()))
+                        .packaging(new Packaging.Builder().dash(true).build())
+                        .build())
+                .build();
+    }
+}
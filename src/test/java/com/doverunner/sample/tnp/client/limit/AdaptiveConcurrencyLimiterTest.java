@@ -0,0 +1,119 @@
+package com.doverunner.sample.tnp.client.limit;
+
+import static com.doverunner.sample.tnp.exception.ErrorCode.OUT_OF_RANGE_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.client.limit.AdaptiveConcurrencyLimiter.Outcome;
+import com.doverunner.sample.tnp.client.limit.AdaptiveConcurrencyLimiter.Permit;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    @DisplayName("한도까지 요청이 진행 중일 때 지연 시간이 안정적이면 한도가 점진적으로 증가해야 한다.")
+    void release_should_increase_limit_additively_when_latency_is_stable() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = newLimiter(4);
+
+        // when
+        for (int round = 0; round < 4; round++) {
+            List<Permit> permits = acquireAll(limiter, limiter.getLimit());
+            nanoTime.addAndGet(10_000_000);
+            permits.forEach(permit -> permit.release(Outcome.SUCCESS));
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(4);
+    }
+
+    @Test
+    @DisplayName("과부하 응답을 받으면 한도가 배수로 감소하고 같은 혼잡 구간에서는 한 번만 감소해야 한다.")
+    void release_should_decrease_limit_multiplicatively_once_per_congestion_event() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = newLimiter(16);
+        List<Permit> permits = acquireAll(limiter, 8);
+
+        // when
+        permits.forEach(permit -> permit.release(Outcome.OVERLOAD));
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(8);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("지연 시간이 기준 대비 급증하면 한도가 감소해야 한다.")
+    void release_should_decrease_limit_when_latency_spikes() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = newLimiter(16);
+        Permit warmUp = limiter.acquireAsync().join();
+        nanoTime.addAndGet(10_000_000);
+        warmUp.release(Outcome.SUCCESS);
+
+        // when
+        Permit slow = limiter.acquireAsync().join();
+        nanoTime.addAndGet(100_000_000);
+        slow.release(Outcome.SUCCESS);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("한도에 도달하면 대기하다가 다른 요청이 반환될 때 허가를 받아야 한다.")
+    void acquireAsync_should_wait_until_permit_is_released() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = newLimiter(1);
+        Permit first = limiter.acquireAsync().join();
+
+        // when
+        CompletableFuture<Permit> second = limiter.acquireAsync();
+        boolean grantedBeforeRelease = second.isDone();
+        first.release(Outcome.IGNORE);
+
+        // then
+        assertThat(grantedBeforeRelease).isFalse();
+        assertThat(second).isCompleted();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("initialLimit이 허용 범위를 벗어나면 예외가 발생해야 한다.")
+    void build_should_throw_when_initial_limit_is_out_of_range() {
+        // when
+        Throwable throwable = catchThrowable(() -> new AdaptiveConcurrencyLimiter.Builder()
+                .minLimit(2)
+                .initialLimit(1)
+                .build());
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+        TnpCustomException ex = (TnpCustomException) throwable;
+        assertThat(ex.getErrorCode()).isEqualTo(OUT_OF_RANGE_VALUE);
+    }
+
+    private AdaptiveConcurrencyLimiter newLimiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter.Builder()
+                .initialLimit(initialLimit)
+                .maxLimit(64)
+                .nanoClock(nanoTime::get)
+                .build();
+    }
+
+    private List<Permit> acquireAll(AdaptiveConcurrencyLimiter limiter, int count) {
+        List<Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.acquireAsync().join());
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,84 @@
+package com.doverunner.sample.tnp.client.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위 값은 버킷 해상도 이내의 오차로 계산되어야 한다.")
+    void snapshot_should_estimate_percentiles_within_bucket_resolution() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * 1_000_000);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // then
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getMax()).isEqualTo(1_000_000_000L);
+        assertThat((double) snapshot.getValueAtPercentile(50)).isCloseTo(500_000_000, within(35_000_000.0));
+        assertThat((double) snapshot.getValueAtPercentile(99)).isCloseTo(990_000_000, within(65_000_000.0));
+        assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(1_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("경계 값 이하로 기록된 개수를 누적하여 반환해야 한다.")
+    void countAtOrBelow_should_return_cumulative_count() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10);
+        histogram.record(20);
+        histogram.record(5_000_000);
+
+        // when
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // then
+        assertThat(snapshot.countAtOrBelow(20)).isEqualTo(2);
+        assertThat(snapshot.countAtOrBelow(1_000_000)).isEqualTo(2);
+        assertThat(snapshot.countAtOrBelow(5_000_000)).isEqualTo(2);
+        assertThat(snapshot.countAtOrBelow(5_242_879)).isEqualTo(3);
+        assertThat(snapshot.countAtOrBelow(Long.MAX_VALUE)).isEqualTo(3);
+        assertThat(snapshot.getSum()).isEqualTo(5_000_030);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 기록해도 모든 값이 집계되어야 한다.")
+    void record_should_count_every_value_under_concurrency() throws Exception {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            IntStream.range(0, 8).forEach(thread -> executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            }));
+        }
+
+        // then
+        assertThat(histogram.snapshot().getCount()).isEqualTo(80_000);
+    }
+
+    @Test
+    @DisplayName("버킷 인덱스의 상한 값은 해당 버킷에 속해야 한다.")
+    void upperBoundOf_should_stay_in_same_bucket() {
+        // when & then
+        for (long value : new long[]{0, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.indexOf(LatencyHistogram.upperBoundOf(index))).isEqualTo(index);
+            assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.doverunner.sample.tnp.client.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.client.TnpClient;
+import com.doverunner.sample.tnp.client.limit.AdaptiveConcurrencyLimiter;
+import com.doverunner.sample.tnp.constant.RegionCode;
+import com.doverunner.sample.tnp.constant.web.ApiUrl;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PrometheusMetricsTest {
+
+    private HttpServer server;
+    private PrometheusMetrics metrics;
+    private TnpClient client;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            boolean missing = exchange.getRequestURI().getPath().endsWith("/404");
+            byte[] body = (missing ? "{\"message\":\"not found\"}" : "{\"status\":\"QUEUED\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(missing ? 404 : 200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        metrics = new PrometheusMetrics.Builder().port(0).build();
+        client = new TnpClient.Builder()
+                .siteId("TEST")
+                .authToken("valid-token")
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .createJobLimiter(new AdaptiveConcurrencyLimiter.Builder().initialLimit(4).build())
+                .metrics(metrics)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        metrics.close();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 요청 수를 상태 코드 분류별로 집계하고 지연 시간을 기록해야 한다.")
+    void metrics_should_record_requests_by_endpoint_and_status_class() {
+        // given
+        client.getJobDetail("777");
+        client.getJobDetail("777");
+        catchThrowable(() -> client.getJobDetail("404"));
+
+        // when
+        String text = metrics.scrape();
+
+        // then
+        assertThat(text).contains(
+                "tnp_requests_total{endpoint=\"GET_JOB_DETAIL\",region=\"default\",status=\"2xx\"} 2",
+                "tnp_requests_total{endpoint=\"GET_JOB_DETAIL\",region=\"default\",status=\"4xx\"} 1",
+                "tnp_requests_in_flight{endpoint=\"GET_JOB_DETAIL\",region=\"default\"} 0",
+                "tnp_request_duration_seconds_bucket{endpoint=\"GET_JOB_DETAIL\",region=\"default\",le=\"+Inf\"} 3",
+                "tnp_request_duration_seconds_count{endpoint=\"GET_JOB_DETAIL\",region=\"default\"} 3",
+                "tnp_create_job_concurrency_limit 4.0");
+        assertThat(metrics.getLatency(ApiUrl.GET_JOB_DETAIL, null).getCount()).isEqualTo(3);
+        assertThat(metrics.getLatency(ApiUrl.GET_JOB_DETAIL, RegionCode.SEOUL).getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("로컬 엔드포인트에서 Prometheus 텍스트 형식으로 지표를 제공해야 한다.")
+    void start_should_serve_metrics_in_prometheus_text_format() throws Exception {
+        // given
+        client.getJobDetail("777");
+        metrics.start();
+        URI endpoint = URI.create("http://127.0.0.1:" + metrics.getAddress().getPort() + "/metrics");
+        HttpClient httpClient = HttpClient.newHttpClient();
+
+        // when
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(endpoint).build(),
+                BodyHandlers.ofString());
+        HttpResponse<String> post = httpClient.send(HttpRequest.newBuilder(endpoint)
+                .POST(BodyPublishers.noBody()).build(), BodyHandlers.ofString());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("text/plain; version=0.0.4; charset=utf-8");
+        assertThat(response.body()).contains("# TYPE tnp_request_duration_seconds histogram");
+        assertThat(post.statusCode()).isEqualTo(405);
+    }
+}
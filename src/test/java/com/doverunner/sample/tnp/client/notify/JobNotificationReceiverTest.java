@@ -0,0 +1,168 @@
+package com.doverunner.sample.tnp.client.notify;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.doverunner.sample.tnp.job.JobStatus;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JobNotificationReceiverTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private JobNotificationReceiver receiver;
+    private URI endpoint;
+
+    @BeforeEach
+    void setup() {
+        receiver = new JobNotificationReceiver.Builder()
+                .host("127.0.0.1")
+                .port(0)
+                .path("/notifications")
+                .build()
+                .start();
+        endpoint = URI.create("http://127.0.0.1:" + receiver.getAddress().getPort() + "/notifications");
+    }
+
+    @AfterEach
+    void tearDown() {
+        receiver.close();
+    }
+
+    @Test
+    @DisplayName("POST로 받은 Job 상태 알림을 타입이 지정된 이벤트로 변환하여 리스너에 전달해야 한다.")
+    void receiver_should_dispatch_typed_notification_to_listeners() throws Exception {
+        // given
+        CompletableFuture<JobNotification> received = new CompletableFuture<>();
+        receiver.addListener(received::complete);
+
+        // when
+        int status = post("{\"job_id\":\"777\",\"content_id\":\"content_001\",\"status\":\"completed\"}");
+
+        // then
+        JobNotification notification = received.get(5, TimeUnit.SECONDS);
+        assertThat(status).isEqualTo(204);
+        assertThat(notification.getJobId()).isEqualTo("777");
+        assertThat(notification.getContentId()).isEqualTo("content_001");
+        assertThat(notification.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(notification.getReceivedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("배열로 받은 여러 알림을 각각 리스너에 전달해야 한다.")
+    void receiver_should_dispatch_each_notification_in_array() throws Exception {
+        // given
+        List<JobNotification> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        receiver.addListener(notification -> {
+            received.add(notification);
+            latch.countDown();
+        });
+
+        // when
+        post("[{\"job_id\":\"1\",\"status\":\"transcoding\"},{\"data\":{\"job_id\":\"2\",\"status\":\"failed\"}}]");
+
+        // then
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).extracting(JobNotification::getStatus)
+                .containsExactlyInAnyOrder(JobStatus.TRANSCODING, JobStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("JSON이 아닌 요청 본문은 400으로 거부해야 한다.")
+    void receiver_should_reject_malformed_payload() throws Exception {
+        // when
+        int status = post("not-json");
+
+        // then
+        assertThat(status).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("POST가 아닌 요청은 405로 거부해야 한다.")
+    void receiver_should_reject_non_post_requests() throws Exception {
+        // when
+        int status = httpClient.send(HttpRequest.newBuilder(endpoint).GET().build(), BodyHandlers.discarding())
+                .statusCode();
+
+        // then
+        assertThat(status).isEqualTo(405);
+    }
+
+    @Test
+    @DisplayName("host를 지정하지 않으면 루프백 주소에서만 알림을 받아야 한다.")
+    void build_should_bind_to_loopback_by_default() {
+        // when
+        try (JobNotificationReceiver defaultReceiver = new JobNotificationReceiver.Builder().port(0).build()) {
+            // then
+            assertThat(defaultReceiver.getAddress().getAddress().isLoopbackAddress()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("secret을 설정하면 올바른 HMAC-SHA256 서명이 있는 알림만 리스너에 전달해야 한다.")
+    void receiver_should_accept_only_signed_notifications_when_secret_is_set() throws Exception {
+        // given
+        CompletableFuture<JobNotification> received = new CompletableFuture<>();
+        String body = "{\"job_id\":\"777\",\"status\":\"completed\"}";
+        try (JobNotificationReceiver signedReceiver = new JobNotificationReceiver.Builder()
+                .port(0)
+                .path("/notifications")
+                .secret("shared-secret")
+                .build()
+                .addListener(received::complete)
+                .start()) {
+            URI signedEndpoint = URI.create("http://127.0.0.1:" + signedReceiver.getAddress().getPort()
+                    + "/notifications");
+
+            // when
+            int unsigned = post(signedEndpoint, body, null);
+            int wronglySigned = post(signedEndpoint, body, hmacSha256("other-secret", body));
+            int malformed = post(signedEndpoint, body, "not-hex");
+            int signed = post(signedEndpoint, body, "sha256=" + hmacSha256("shared-secret", body));
+
+            // then
+            assertThat(unsigned).isEqualTo(401);
+            assertThat(wronglySigned).isEqualTo(401);
+            assertThat(malformed).isEqualTo(401);
+            assertThat(signed).isEqualTo(204);
+            assertThat(received.get(5, TimeUnit.SECONDS).getJobId()).isEqualTo("777");
+        }
+    }
+
+    private int post(String body) throws IOException, InterruptedException {
+        return post(endpoint, body, null);
+    }
+
+    private int post(URI uri, String body, String signature) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body));
+        if (signature != null) {
+            request.header("X-Tnp-Signature", signature);
+        }
+        return httpClient.send(request.build(), BodyHandlers.discarding()).statusCode();
+    }
+
+    private String hmacSha256(String secret, String body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,166 @@
+package com.doverunner.sample.tnp.client.page;
+
+import static com.doverunner.sample.tnp.exception.ErrorCode.OUT_OF_RANGE_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.client.response.JobListPage;
+import com.doverunner.sample.tnp.client.response.JobSummary;
+import com.doverunner.sample.tnp.exception.TnpApiException;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.JobStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JobListIteratorTest {
+
+    private static final int TOTAL_JOBS = 25;
+
+    private final List<Integer> requestedPages = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("모든 페이지의 Job을 순서대로 반환하고 마지막 페이지 이후에는 요청하지 않아야 한다.")
+    void iterator_should_return_all_jobs_in_order() {
+        // given
+        JobListIterator iterator = newIterator(10, 1);
+
+        // when
+        List<JobSummary> jobs = new ArrayList<>();
+        iterator.forEachRemaining(jobs::add);
+
+        // then
+        assertThat(jobs).extracting(JobSummary::getJobId)
+                .containsExactlyElementsOf(IntStream.range(0, TOTAL_JOBS).mapToObj(String::valueOf).toList());
+        assertThat(jobs.get(0).getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(requestedPages).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("현재 페이지를 소비하는 동안 pageWindow 만큼의 다음 페이지만 미리 요청해야 한다.")
+    void iterator_should_prefetch_only_page_window_ahead() {
+        // given
+        JobListIterator iterator = newIterator(5, 2);
+
+        // when
+        iterator.next();
+
+        // then
+        assertThat(requestedPages).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("hasNext를 호출하기 전에는 페이지를 요청하지 않아야 한다.")
+    void iterator_should_fetch_lazily() {
+        // when
+        newIterator(5, 2);
+
+        // then
+        assertThat(requestedPages).isEmpty();
+    }
+
+    @Test
+    @DisplayName("페이지 요청이 실패하면 원인 예외를 그대로 던져야 한다.")
+    void iterator_should_rethrow_page_failure() {
+        // given
+        JobListIterator iterator = new JobListIterator.Builder()
+                .fetcher((page, size) -> CompletableFuture.failedFuture(new TnpApiException(500, "error")))
+                .build();
+
+        // when
+        Throwable throwable = catchThrowable(iterator::hasNext);
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpApiException.class);
+    }
+
+    @Test
+    @DisplayName("페이지가 계속 가득 차 있어도 total만큼 읽으면 더 요청하지 않아야 한다.")
+    void iterator_should_stop_at_total_even_when_pages_stay_full() {
+        // given
+        JobListIterator iterator = new JobListIterator.Builder()
+                .fetcher((page, size) -> {
+                    requestedPages.add(page);
+                    return CompletableFuture.completedFuture(new JobListPage.Builder()
+                            .items(jobs((page - 1) * size, page * size))
+                            .total(20L)
+                            .build());
+                })
+                .pageSize(10)
+                .pageWindow(1)
+                .build();
+
+        // when
+        List<JobSummary> jobs = new ArrayList<>();
+        iterator.forEachRemaining(jobs::add);
+
+        // then
+        assertThat(jobs).hasSize(20);
+        assertThat(requestedPages).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("요청한 번호와 다른 페이지가 오면 중복 Job을 반환하지 않고 멈춰야 한다.")
+    void iterator_should_stop_when_page_number_is_not_echoed() {
+        // given
+        JobListIterator iterator = new JobListIterator.Builder()
+                .fetcher((page, size) -> {
+                    requestedPages.add(page);
+                    return CompletableFuture.completedFuture(new JobListPage.Builder()
+                            .items(jobs(0, size))
+                            .page(1)
+                            .size(size)
+                            .build());
+                })
+                .pageSize(10)
+                .pageWindow(1)
+                .build();
+
+        // when
+        List<JobSummary> jobs = new ArrayList<>();
+        iterator.forEachRemaining(jobs::add);
+
+        // then
+        assertThat(jobs).extracting(JobSummary::getJobId)
+                .containsExactlyElementsOf(IntStream.range(0, 10).mapToObj(String::valueOf).toList());
+        assertThat(requestedPages).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("pageWindow가 1보다 작으면 예외가 발생해야 한다.")
+    void build_should_throw_when_page_window_is_less_than_one() {
+        // when
+        Throwable throwable = catchThrowable(() -> new JobListIterator.Builder()
+                .fetcher((page, size) -> CompletableFuture.completedFuture(new JobListPage.Builder().build()))
+                .pageWindow(0)
+                .build());
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(OUT_OF_RANGE_VALUE);
+    }
+
+    private JobListIterator newIterator(int pageSize, int pageWindow) {
+        return new JobListIterator.Builder()
+                .fetcher(this::fetch)
+                .pageSize(pageSize)
+                .pageWindow(pageWindow)
+                .build();
+    }
+
+    private CompletableFuture<JobListPage> fetch(int page, int size) {
+        requestedPages.add(page);
+        List<JobSummary> items = jobs((page - 1) * size, Math.min(page * size, TOTAL_JOBS));
+        return CompletableFuture.completedFuture(new JobListPage.Builder().items(items).page(page).size(size).build());
+    }
+
+    private List<JobSummary> jobs(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> new JobSummary.Builder().jobId(String.valueOf(i)).status(JobStatus.COMPLETED).build())
+                .toList();
+    }
+}
@@ -0,0 +1,234 @@
+package com.doverunner.sample.tnp.client.poll;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.client.TnpClient;
+import com.doverunner.sample.tnp.client.auth.TokenProvider;
+import com.doverunner.sample.tnp.client.response.JobDetail;
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpApiException;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.JobStatus;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JobStatusPollerTest {
+
+    private static final String SITE_ID = "TEST";
+    private static final List<String> PROGRESS = List.of("queued", "transcoding", "transcoding", "packaging",
+            "completed");
+
+    private final Map<String, AtomicInteger> pollCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+    private JobStatusPoller poller;
+
+    @BeforeEach
+    void setup() throws IOException {
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/api/job/" + SITE_ID, exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxObservedInFlight.accumulateAndGet(current, Math::max);
+            try {
+                String jobId = exchange.getRequestURI().getPath().substring(("/api/job/" + SITE_ID + "/").length());
+                int count = pollCounts.computeIfAbsent(jobId, id -> new AtomicInteger()).getAndIncrement();
+                int status = jobId.equals("missing") ? 404 : 200;
+                String body = "{\"job_id\":\"" + jobId + "\",\"status\":\""
+                        + PROGRESS.get(Math.min(count, PROGRESS.size() - 1)) + "\"}";
+
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(status, bytes.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(bytes);
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+        server.start();
+
+        TnpClient client = new TnpClient.Builder()
+                .siteId(SITE_ID)
+                .authToken("valid-token")
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .build();
+        poller = new JobStatusPoller.Builder()
+                .client(client)
+                .initialInterval(Duration.ofMillis(5))
+                .maxInterval(Duration.ofMillis(20))
+                .maxInFlight(4)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        poller.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Job이 종료 상태가 될 때까지 폴링하고 상태가 바뀔 때마다 리스너에 알려야 한다.")
+    void watch_should_poll_until_terminal_status_and_notify_changes() throws Exception {
+        // given
+        List<JobStatus> observed = new CopyOnWriteArrayList<>();
+
+        // when
+        JobDetail detail = poller.watch("777", observed::add).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(detail.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(observed).containsExactly(JobStatus.QUEUED, JobStatus.TRANSCODING, JobStatus.PACKAGING,
+                JobStatus.COMPLETED);
+        assertThat(pollCounts.get("777")).hasValue(PROGRESS.size());
+        assertThat(poller.getWatchedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("많은 Job을 동시에 감시해도 동시 요청 수는 maxInFlight를 넘지 않아야 한다.")
+    void watch_should_limit_concurrent_polls() {
+        // when
+        List<CompletableFuture<JobDetail>> futures = IntStream.range(0, 50)
+                .mapToObj(i -> poller.watch("job_" + i))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).orTimeout(10, TimeUnit.SECONDS).join();
+
+        // then
+        assertThat(futures).allSatisfy(future -> assertThat(future.join().getStatus()).isEqualTo(JobStatus.COMPLETED));
+        assertThat(maxObservedInFlight.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("maxInFlight가 1이고 여러 스레드에서 폴링해도 대기 중인 Job이 멈추지 않고 모두 완료되어야 한다.")
+    void watch_should_not_stall_pending_jobs_with_single_permit() throws Exception {
+        // given
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(8);
+        TnpClient client = new TnpClient.Builder()
+                .siteId(SITE_ID)
+                .authToken("valid-token")
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .build();
+
+        try (JobStatusPoller singlePoller = new JobStatusPoller.Builder()
+                .client(client)
+                .scheduler(scheduler)
+                .initialInterval(Duration.ofMillis(1))
+                .maxInterval(Duration.ofMillis(1))
+                .jitterRatio(0)
+                .maxInFlight(1)
+                .build()) {
+            // when
+            List<CompletableFuture<JobDetail>> futures = IntStream.range(0, 30)
+                    .mapToObj(i -> singlePoller.watch("stress_" + i))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .orTimeout(20, TimeUnit.SECONDS).join();
+
+            // then
+            assertThat(futures).allSatisfy(future -> assertThat(future.join().getStatus())
+                    .isEqualTo(JobStatus.COMPLETED));
+            assertThat(maxObservedInFlight.get()).isEqualTo(1);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("요청이 동기적으로 실패해도 대기열이 길 때 재귀 없이 모든 Job을 폴링해야 한다.")
+    void watch_should_drain_large_queue_without_recursion_when_polls_fail_synchronously() throws Exception {
+        // given
+        int jobs = 5_000;
+        CompletableFuture<String> firstToken = new CompletableFuture<>();
+        AtomicInteger tokenRequests = new AtomicInteger();
+        AtomicInteger maxStackDepth = new AtomicInteger();
+        TokenProvider failingProvider = new TokenProvider() {
+            @Override
+            public String getToken() {
+                throw new TnpCustomException(ErrorCode.API_CONNECTION_FAILED, "unavailable");
+            }
+
+            @Override
+            public CompletableFuture<String> getTokenAsync() {
+                int depth = StackWalker.getInstance().walk(frames -> (int) frames.count());
+                maxStackDepth.accumulateAndGet(depth, Math::max);
+                if (tokenRequests.getAndIncrement() == 0) {
+                    return firstToken;
+                }
+                return CompletableFuture.failedFuture(
+                        new TnpCustomException(ErrorCode.API_CONNECTION_FAILED, "unavailable"));
+            }
+        };
+        TnpClient failingClient = new TnpClient.Builder()
+                .siteId(SITE_ID)
+                .tokenProvider(failingProvider)
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .build();
+
+        try (JobStatusPoller singlePoller = new JobStatusPoller.Builder()
+                .client(failingClient)
+                .initialInterval(Duration.ofMillis(1))
+                .maxInterval(Duration.ofSeconds(60))
+                .backoffMultiplier(60_000)
+                .jitterRatio(0)
+                .maxInFlight(1)
+                .build()) {
+            IntStream.range(0, jobs).forEach(i -> singlePoller.watch("failing_" + i));
+            await(() -> tokenRequests.get() == 1);
+            Thread.sleep(200);
+
+            // when
+            firstToken.completeExceptionally(new TnpCustomException(ErrorCode.API_CONNECTION_FAILED, "unavailable"));
+
+            // then
+            await(() -> tokenRequests.get() >= jobs);
+            assertThat(maxStackDepth.get()).isLessThan(500);
+        }
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 Job은 폴링을 중단하고 TnpApiException으로 실패해야 한다.")
+    void watch_should_fail_when_job_is_not_found() {
+        // when
+        Throwable throwable = catchThrowable(() -> poller.watch("missing").orTimeout(5, TimeUnit.SECONDS).join());
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(CompletionException.class);
+        assertThat(throwable.getCause()).isExactlyInstanceOf(TnpApiException.class);
+        assertThat(pollCounts.get("missing")).hasValue(1);
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out waiting for the condition").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
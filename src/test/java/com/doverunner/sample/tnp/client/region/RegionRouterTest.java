@@ -0,0 +1,191 @@
+package com.doverunner.sample.tnp.client.region;
+
+import static com.doverunner.sample.tnp.exception.ErrorCode.MISSING_REQUIRED_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.client.TnpClient;
+import com.doverunner.sample.tnp.client.response.JobDetail;
+import com.doverunner.sample.tnp.constant.RegionCode;
+import com.doverunner.sample.tnp.exception.TnpApiException;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.JobStatus;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RegionRouterTest {
+
+    private final AtomicInteger seoulJobRequests = new AtomicInteger();
+    private HttpServer seoul;
+    private HttpServer oregon;
+
+    @BeforeEach
+    void setup() throws IOException {
+        seoul = startServer(0, seoulJobRequests);
+        oregon = startServer(150, new AtomicInteger());
+    }
+
+    @AfterEach
+    void tearDown() {
+        seoul.stop(0);
+        oregon.stop(0);
+    }
+
+    @Test
+    @DisplayName("프로브로 측정한 RTT가 가장 짧은 리전을 선택해야 한다.")
+    void select_should_choose_region_with_lowest_rtt() {
+        // given
+        try (RegionRouter router = newRouter(RegionCode.OREGON)) {
+
+            // when
+            router.probeAll().join();
+            RegionRouter.Route route = router.select();
+
+            // then
+            assertThat(route.getRegion()).isEqualTo(RegionCode.SEOUL);
+            assertThat(route.getRtt()).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("선택된 리전의 오류율이 높아지면 다른 정상 리전으로 전환해야 한다.")
+    void select_should_move_away_from_unhealthy_region() {
+        // given
+        try (RegionRouter router = newRouter(RegionCode.SEOUL)) {
+            router.probeAll().join();
+            RegionRouter.Route seoulRoute = router.select();
+
+            // when
+            for (int i = 0; i < 5; i++) {
+                seoulRoute.record(new TnpApiException(503, null));
+            }
+
+            // then
+            assertThat(seoulRoute.isHealthy()).isFalse();
+            assertThat(router.select().getRegion()).isEqualTo(RegionCode.OREGON);
+        }
+    }
+
+    @Test
+    @DisplayName("실제 API 호출 결과는 오류율에만 반영하고 프로브 RTT는 바꾸지 않아야 한다.")
+    void record_should_not_change_probe_rtt() {
+        // given
+        try (RegionRouter router = newRouter(RegionCode.SEOUL)) {
+            router.probeAll().join();
+            RegionRouter.Route seoulRoute = router.select();
+            Duration probedRtt = seoulRoute.getRtt();
+
+            // when
+            for (int i = 0; i < 20; i++) {
+                seoulRoute.record(null);
+            }
+
+            // then
+            assertThat(seoulRoute.getRtt()).isEqualTo(probedRtt);
+            assertThat(seoulRoute.getErrorRate()).isZero();
+            assertThat(router.select().getRegion()).isEqualTo(RegionCode.SEOUL);
+        }
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 리전으로는 라우팅하지 않아야 한다.")
+    void select_should_only_use_allowed_regions() {
+        // given
+        try (RegionRouter router = new RegionRouter.Builder()
+                .endpoint(RegionCode.SEOUL, uriOf(seoul))
+                .endpoint(RegionCode.OREGON, uriOf(oregon))
+                .allowedRegions(EnumSet.of(RegionCode.OREGON))
+                .build()) {
+
+            // when
+            router.probeAll().join();
+
+            // then
+            assertThat(router.getRoutes()).extracting(RegionRouter.Route::getRegion)
+                    .containsExactly(RegionCode.OREGON);
+            assertThat(router.select().getRegion()).isEqualTo(RegionCode.OREGON);
+        }
+    }
+
+    @Test
+    @DisplayName("TnpClient에 RegionRouter를 지정하면 선택된 리전의 엔드포인트로 요청해야 한다.")
+    void client_should_send_requests_to_selected_region() {
+        // given
+        try (RegionRouter router = newRouter(RegionCode.OREGON)) {
+            router.probeAll().join();
+            TnpClient client = new TnpClient.Builder()
+                    .siteId("TEST")
+                    .authToken("valid-token")
+                    .regionRouter(router)
+                    .build();
+
+            // when
+            JobDetail response = client.getJobDetail("777");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(JobStatus.QUEUED);
+            assertThat(seoulJobRequests).hasValue(1);
+        }
+    }
+
+    @Test
+    @DisplayName("허용된 리전에 엔드포인트가 없으면 예외가 발생해야 한다.")
+    void build_should_throw_when_no_allowed_region_has_endpoint() {
+        // when
+        Throwable throwable = catchThrowable(() -> new RegionRouter.Builder()
+                .endpoint(RegionCode.SEOUL, uriOf(seoul))
+                .allowedRegions(EnumSet.of(RegionCode.SINGAPORE))
+                .build());
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(MISSING_REQUIRED_VALUE);
+    }
+
+    private RegionRouter newRouter(RegionCode preferredRegion) {
+        return new RegionRouter.Builder()
+                .endpoint(RegionCode.SEOUL, uriOf(seoul))
+                .endpoint(RegionCode.OREGON, uriOf(oregon))
+                .preferredRegion(preferredRegion)
+                .build();
+    }
+
+    private URI uriOf(HttpServer server) {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    private HttpServer startServer(long delayMillis, AtomicInteger jobRequests) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+                return;
+            }
+            jobRequests.incrementAndGet();
+            byte[] body = "{\"status\":\"QUEUED\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+}
@@ -0,0 +1,69 @@
+package com.doverunner.sample.tnp.client.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.job.JobStatus;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JobDetailTest {
+
+    private final JsonFactory factory = new JsonFactory();
+
+    @Test
+    @DisplayName("최상위 필드와 data 객체 안의 필드를 모두 읽어야 한다.")
+    void read_should_parse_top_level_and_wrapped_fields() throws IOException {
+        // when
+        JobDetail detail = read("""
+                {"job_id":"777","data":{"status":"TRANSCODING","progress":"42","error_message":"slow input"}}
+                """);
+
+        // then
+        assertThat(detail.getJobId()).isEqualTo("777");
+        assertThat(detail.getStatus()).isEqualTo(JobStatus.TRANSCODING);
+        assertThat(detail.getProgress()).isEqualTo(42);
+        assertThat(detail.getMessage()).isEqualTo("slow input");
+    }
+
+    @Test
+    @DisplayName("상태 값이 없으면 UNKNOWN으로 읽어야 한다.")
+    void read_should_default_status_to_unknown() throws IOException {
+        // when
+        JobDetail detail = read("{\"job_id\":\"777\",\"status\":null}");
+
+        // then
+        assertThat(detail.getStatus()).isEqualTo(JobStatus.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("응답이 JSON 객체가 아니면 JsonParseException이 발생해야 한다.")
+    void read_should_throw_when_response_is_not_object() {
+        // when
+        Throwable throwable = catchThrowable(() -> read("[1,2,3]"));
+
+        // then
+        assertThat(throwable).isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    @DisplayName("int 범위를 넘는 숫자 필드는 JsonParseException이 발생해야 한다.")
+    void read_should_throw_when_int_field_overflows() {
+        // when
+        Throwable throwable = catchThrowable(() -> read("{\"job_id\":\"777\",\"progress\":3000000000}"));
+
+        // then
+        assertThat(throwable).isInstanceOf(JsonParseException.class).hasMessageContaining("3000000000");
+    }
+
+    private JobDetail read(String json) throws IOException {
+        try (JsonParser parser = factory.createParser(json)) {
+            parser.nextToken();
+            return JobDetail.read(parser);
+        }
+    }
+}
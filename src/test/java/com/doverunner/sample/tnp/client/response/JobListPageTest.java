@@ -0,0 +1,86 @@
+package com.doverunner.sample.tnp.client.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.doverunner.sample.tnp.job.JobStatus;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JobListPageTest {
+
+    private final JsonFactory factory = new JsonFactory();
+
+    @Test
+    @DisplayName("data 객체 안의 목록과 페이지 정보를 읽고 알 수 없는 필드는 건너뛰어야 한다.")
+    void read_should_parse_wrapped_page_and_skip_unknown_fields() throws IOException {
+        // given
+        String json = """
+                {"code":"0000","data":{"page":2,"size":2,"total_count":"5","meta":{"tags":["a","b"]},
+                "list":[{"job_id":"1","job_name":"first","status":"completed","extra":[1,2]},
+                {"id":2,"status":"archived"}]}}
+                """;
+
+        // when
+        JobListPage page = read(json);
+
+        // then
+        assertThat(page.getPage()).isEqualTo(2);
+        assertThat(page.getSize()).isEqualTo(2);
+        assertThat(page.getTotal()).isEqualTo(5L);
+        assertThat(page.getItems()).extracting(JobSummary::getJobId).containsExactly("1", "2");
+        assertThat(page.getItems()).extracting(JobSummary::getStatus)
+                .containsExactly(JobStatus.COMPLETED, JobStatus.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("TnP 목록 응답 형식의 픽스처에서 data.list를 Job 목록으로 읽어야 한다.")
+    void read_should_parse_job_list_fixture() throws IOException {
+        // when
+        JobListPage page;
+        try (InputStream in = getClass().getResourceAsStream("/response/job-list.json");
+             JsonParser parser = factory.createParser(in)) {
+            parser.nextToken();
+            page = JobListPage.read(parser);
+        }
+
+        // then
+        assertThat(page.getPage()).isEqualTo(1);
+        assertThat(page.getSize()).isEqualTo(2);
+        assertThat(page.getTotal()).isEqualTo(3L);
+        assertThat(page.getItems()).extracting(JobSummary::getJobId).containsExactly("1002", "1001");
+        assertThat(page.getItems()).extracting(JobSummary::getStatus)
+                .containsExactly(JobStatus.TRANSCODING, JobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("list가 아닌 필드의 배열은 Job 목록으로 읽지 않아야 한다.")
+    void read_should_ignore_arrays_outside_list_field() throws IOException {
+        // when
+        JobListPage page = read("{\"data\":{\"items\":[{\"job_id\":\"1\"}],\"list\":[{\"job_id\":\"2\"},null]}}");
+
+        // then
+        assertThat(page.getItems()).extracting(JobSummary::getJobId).containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("빈 응답 본문은 빈 페이지로 읽어야 한다.")
+    void read_should_return_empty_page_for_empty_body() throws IOException {
+        // when
+        JobListPage page = read("");
+
+        // then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getTotal()).isNull();
+    }
+
+    private JobListPage read(String json) throws IOException {
+        try (JsonParser parser = factory.createParser(json)) {
+            parser.nextToken();
+            return JobListPage.read(parser);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.doverunner.sample.tnp.client.retry;
+
+import static com.doverunner.sample.tnp.exception.ErrorCode.API_CONNECTION_FAILED;
+import static com.doverunner.sample.tnp.exception.ErrorCode.OUT_OF_RANGE_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.exception.TnpApiException;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RetryPolicyTest {
+
+    @Test
+    @DisplayName("HTTP 상태 코드와 연결 오류를 실패 유형으로 분류해야 한다.")
+    void classify_should_map_failures_to_failure_types() {
+        // when & then
+        assertThat(RetryPolicy.classify(new TnpApiException(429, null))).isEqualTo(FailureType.THROTTLED);
+        assertThat(RetryPolicy.classify(new TnpApiException(503, null))).isEqualTo(FailureType.SERVER_ERROR);
+        assertThat(RetryPolicy.classify(new TnpApiException(501, null))).isEqualTo(FailureType.CLIENT_ERROR);
+        assertThat(RetryPolicy.classify(new TnpApiException(400, null))).isEqualTo(FailureType.CLIENT_ERROR);
+        assertThat(RetryPolicy.classify(connectionFailure(new ConnectException("refused"))))
+                .isEqualTo(FailureType.CONNECT);
+        assertThat(RetryPolicy.classify(connectionFailure(new HttpTimeoutException("timed out"))))
+                .isEqualTo(FailureType.TIMEOUT);
+        assertThat(RetryPolicy.classify(new IllegalStateException())).isEqualTo(FailureType.OTHER);
+    }
+
+    @Test
+    @DisplayName("Retry-After 헤더는 초 단위와 HTTP 날짜 형식을 모두 해석해야 한다.")
+    void parseRetryAfter_should_parse_seconds_and_http_date() {
+        // given
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        // when & then
+        assertThat(RetryPolicy.parseRetryAfter("5", now)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(RetryPolicy.parseRetryAfter("Mon, 01 Jan 2024 00:00:30 GMT", now))
+                .isEqualTo(Duration.ofSeconds(30));
+        assertThat(RetryPolicy.parseRetryAfter("invalid", now)).isNull();
+        assertThat(RetryPolicy.parseRetryAfter(null, now)).isNull();
+    }
+
+    @Test
+    @DisplayName("재시도 지연 시간은 baseDelay 이상 maxDelay 이하이고 maxAttempts에 도달하면 중단해야 한다.")
+    void nextDelay_should_stay_within_bounds_and_stop_at_max_attempts() {
+        // given
+        RetryPolicy policy = new RetryPolicy.Builder()
+                .maxAttempts(5)
+                .baseDelay(Duration.ofMillis(100))
+                .maxDelay(Duration.ofMillis(500))
+                .build();
+        RetryPolicy.Backoff backoff = policy.newBackoff();
+        TnpApiException failure = new TnpApiException(503, null);
+
+        // when & then
+        for (int i = 0; i < 4; i++) {
+            assertThat(backoff.nextDelay(failure)).isBetween(Duration.ofMillis(100), Duration.ofMillis(500));
+        }
+        assertThat(backoff.nextDelay(failure)).isNull();
+        assertThat(backoff.getAttempts()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Retry-After가 지정되면 그 이상 대기하고 허용 한도를 넘으면 재시도하지 않아야 한다.")
+    void nextDelay_should_honor_retry_after() {
+        // given
+        RetryPolicy policy = new RetryPolicy.Builder()
+                .baseDelay(Duration.ofMillis(10))
+                .maxDelay(Duration.ofMillis(20))
+                .maxRetryAfter(Duration.ofSeconds(5))
+                .build();
+
+        // when
+        Duration honored = policy.newBackoff().nextDelay(new TnpApiException(429, null, Duration.ofSeconds(2)));
+        Duration exceeded = policy.newBackoff().nextDelay(new TnpApiException(429, null, Duration.ofSeconds(10)));
+
+        // then
+        assertThat(honored).isEqualTo(Duration.ofSeconds(2));
+        assertThat(exceeded).isNull();
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 실패에는 지연 시간을 반환하지 않아야 한다.")
+    void nextDelay_should_return_null_for_non_retryable_failure() {
+        // given
+        RetryPolicy.Backoff backoff = new RetryPolicy.Builder().build().newBackoff();
+
+        // when
+        Duration delay = backoff.nextDelay(new TnpApiException(400, null));
+
+        // then
+        assertThat(delay).isNull();
+    }
+
+    @Test
+    @DisplayName("maxAttempts가 1보다 작으면 예외가 발생해야 한다.")
+    void build_should_throw_when_max_attempts_is_less_than_one() {
+        // when
+        Throwable throwable = catchThrowable(() -> new RetryPolicy.Builder().maxAttempts(0).build());
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+        TnpCustomException ex = (TnpCustomException) throwable;
+        assertThat(ex.getErrorCode()).isEqualTo(OUT_OF_RANGE_VALUE);
+    }
+
+    private TnpCustomException connectionFailure(Exception cause) {
+        return new TnpCustomException(API_CONNECTION_FAILED, "Failed to call GET_JOB_DETAIL.", cause);
+    }
+}
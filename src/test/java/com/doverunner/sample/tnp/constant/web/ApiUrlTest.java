@@ -3,6 +3,7 @@ package com.doverunner.sample.tnp.constant.web;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.net.URI;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -65,4 +66,72 @@ class ApiUrlTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("The number of parameters required by the URL pattern does not match the number of provided parameters.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("base URI를 지정하면 해당 호스트로 URL을 반환해야 한다.")
+    void getUrl_should_return_with_base_uri() {
+        // given
+        URI baseUri = URI.create("http://localhost:8080/");
+        String siteId = "TEST";
+        String jobId = "777";
+
+        // when
+        String actual = ApiUrl.STOP_JOB.getUrl(baseUri, siteId, jobId);
+
+        // then
+        assertThat(actual).isEqualTo("http://localhost:8080/api/job/TEST/777/stop");
+    }
+
+    @Test
+    @DisplayName("사이트 단위 URI는 캐시하여 같은 인스턴스를 반환해야 한다.")
+    void getUri_should_cache_site_level_uri() {
+        // given
+        URI baseUri = URI.create("http://localhost:8080");
+
+        // when
+        URI first = ApiUrl.CREATE_JOB.getUri(baseUri, "TEST");
+        URI second = ApiUrl.CREATE_JOB.getUri(URI.create("http://localhost:8080"), "TEST");
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first).hasToString("http://localhost:8080/api/job/TEST");
+        assertThat(ApiUrl.CREATE_JOB.getUri(baseUri, "OTHER")).hasToString("http://localhost:8080/api/job/OTHER");
+    }
+
+    @Test
+    @DisplayName("Job 단위 URI는 매번 생성하되 getUrl과 같은 주소여야 한다.")
+    void getUri_should_match_get_url_for_job_level_uri() {
+        // given
+        URI baseUri = URI.create("http://localhost:8080/");
+
+        // when
+        URI actual = ApiUrl.RESTART_JOB.getUri(baseUri, "TEST", "777");
+
+        // then
+        assertThat(actual).hasToString(ApiUrl.RESTART_JOB.getUrl(baseUri, "TEST", "777"));
+        assertThat(actual).hasToString("http://localhost:8080/api/job/TEST/777/restart");
+    }
+
+    @Test
+    @DisplayName("URL 템플릿은 위치 지정 파라미터를 순서와 관계없이 치환해야 한다.")
+    void compile_should_expand_positional_parameters() {
+        // given
+        UrlTemplate template = UrlTemplate.compile("/a/%2$s/b/%1$s");
+
+        // when
+        String actual = template.expand("http://host/", "first", "second");
+
+        // then
+        assertThat(template.getParameterCount()).isEqualTo(2);
+        assertThat(actual).isEqualTo("http://host/a/second/b/first");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식 지정자가 있으면 예외가 발생해야 한다.")
+    void compile_should_throw_when_specifier_is_unsupported() {
+        // when & then
+        assertThatThrownBy(() -> UrlTemplate.compile("/api/%d"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported format specifier");
+    }
+}
@@ -0,0 +1,235 @@
+package com.doverunner.sample.tnp.emulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.client.TnpClient;
+import com.doverunner.sample.tnp.client.response.JobCreatedResponse;
+import com.doverunner.sample.tnp.client.response.JobDetail;
+import com.doverunner.sample.tnp.client.response.JobListPage;
+import com.doverunner.sample.tnp.client.response.JobSummary;
+import com.doverunner.sample.tnp.client.response.TokenResponse;
+import com.doverunner.sample.tnp.client.retry.RetryPolicy;
+import com.doverunner.sample.tnp.constant.web.ApiUrl;
+import com.doverunner.sample.tnp.exception.TnpApiException;
+import com.doverunner.sample.tnp.job.FileType;
+import com.doverunner.sample.tnp.job.Job;
+import com.doverunner.sample.tnp.job.JobStatus;
+import com.doverunner.sample.tnp.job.input.Input;
+import com.doverunner.sample.tnp.job.input.InputFile;
+import com.doverunner.sample.tnp.job.output.Output;
+import com.doverunner.sample.tnp.job.output.packaging.Packaging;
+import com.doverunner.sample.tnp.job.output.transcoding.VideoTranscoding;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TnpEmulatorTest {
+
+    private static final String SITE_ID = "TEST";
+    private static final LatencyDistribution ONE_SECOND = LatencyDistribution.fixed(Duration.ofSeconds(1));
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private TnpEmulator emulator;
+
+    @AfterEach
+    void tearDown() {
+        emulator.close();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 Job 상태가 queued, transcoding, packaging, completed 순서로 바뀌어야 한다.")
+    void getJobDetail_should_follow_job_lifecycle() {
+        // given
+        TnpClient client = clientOf(emulatorBuilder());
+        String jobId = client.createJob(buildJob()).getJobId();
+
+        // when
+        JobStatus queued = client.getJobDetail(jobId).getStatus();
+        nanoTime.addAndGet(Duration.ofMillis(1500).toNanos());
+        JobDetail transcoding = client.getJobDetail(jobId);
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        JobStatus packaging = client.getJobDetail(jobId).getStatus();
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        JobDetail completed = client.getJobDetail(jobId);
+
+        // then
+        assertThat(queued).isEqualTo(JobStatus.QUEUED);
+        assertThat(transcoding.getStatus()).isEqualTo(JobStatus.TRANSCODING);
+        assertThat(transcoding.getProgress()).isEqualTo(40);
+        assertThat(packaging).isEqualTo(JobStatus.PACKAGING);
+        assertThat(completed.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(completed.getProgress()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("실패한 Job을 재시작하면 다시 queued 상태가 되어야 한다.")
+    void restartJob_should_requeue_failed_job() {
+        // given
+        TnpClient client = clientOf(emulatorBuilder().jobFailureRate(1));
+        String jobId = client.createJob(buildJob()).getJobId();
+        nanoTime.addAndGet(Duration.ofSeconds(5).toNanos());
+        JobDetail failed = client.getJobDetail(jobId);
+
+        // when
+        client.restartJob(jobId);
+
+        // then
+        assertThat(failed.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(failed.getMessage()).startsWith("Emulated failure");
+        assertThat(client.getJobDetail(jobId).getStatus()).isEqualTo(JobStatus.QUEUED);
+    }
+
+    @Test
+    @DisplayName("진행 중인 Job은 중지되고, 이미 끝난 Job을 중지하면 409 오류가 발생해야 한다.")
+    void stopJob_should_stop_running_job_only() {
+        // given
+        TnpClient client = clientOf(emulatorBuilder());
+        String jobId = client.createJob(buildJob()).getJobId();
+
+        // when
+        client.stopJob(jobId);
+        Throwable throwable = catchThrowable(() -> client.stopJob(jobId));
+
+        // then
+        assertThat(client.getJobDetail(jobId).getStatus()).isEqualTo(JobStatus.STOPPED);
+        assertThat(throwable).isInstanceOf(TnpApiException.class);
+        assertThat(((TnpApiException) throwable).getStatusCode()).isEqualTo(409);
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 다시 생성하면 같은 Job을 반환해야 한다.")
+    void createJob_should_deduplicate_by_idempotency_key() {
+        // given
+        TnpClient client = clientOf(emulatorBuilder());
+
+        // when
+        JobCreatedResponse first = client.createJob(buildJob(), "dedupe-1");
+        JobCreatedResponse second = client.createJob(buildJob(), "dedupe-1");
+
+        // then
+        assertThat(second.getJobId()).isEqualTo(first.getJobId());
+        assertThat(emulator.getJobCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Job 목록은 최신 Job부터 페이지 단위로 반환해야 한다.")
+    void getJobList_should_page_newest_first() {
+        // given
+        TnpClient client = clientOf(emulatorBuilder());
+        for (int i = 0; i < 3; i++) {
+            client.createJob(buildJob());
+        }
+
+        // when
+        JobListPage page = client.getJobList(1, 2);
+
+        // then
+        assertThat(page.getTotal()).isEqualTo(3L);
+        assertThat(page.getItems()).extracting(JobSummary::getJobId)
+                .containsExactly("1000002", "1000001");
+    }
+
+    @Test
+    @DisplayName("지정한 경로에만 오류를 주입해야 한다.")
+    void errorRate_should_inject_failures_for_route() {
+        // given
+        TnpClient client = clientOf(emulatorBuilder().errorRate(ApiUrl.GET_JOB_DETAIL, 1));
+        String jobId = client.createJob(buildJob()).getJobId();
+
+        // when
+        Throwable throwable = catchThrowable(() -> client.getJobDetail(jobId));
+
+        // then
+        assertThat(throwable).isInstanceOf(TnpApiException.class);
+        assertThat(((TnpApiException) throwable).getStatusCode()).isEqualTo(503);
+        assertThat(emulator.getInjectedErrorCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허용량을 넘는 요청은 Retry-After와 함께 429로 거절해야 한다.")
+    void rateLimit_should_throttle_with_retry_after() {
+        // given
+        TnpClient client = clientOf(emulatorBuilder().rateLimit(1, 1));
+        client.createJob(buildJob());
+
+        // when
+        Throwable throwable = catchThrowable(() -> client.getJobList(1, 10));
+
+        // then
+        assertThat(throwable).isInstanceOf(TnpApiException.class);
+        assertThat(((TnpApiException) throwable).getStatusCode()).isEqualTo(429);
+        assertThat(((TnpApiException) throwable).getRetryAfter()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(emulator.getThrottledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Basic 인증으로 토큰을 발급하고 설정한 만료 시간을 반환해야 한다.")
+    void getAuthToken_should_issue_token() {
+        // given
+        emulator = emulatorBuilder().tokenTtl(Duration.ofMinutes(10)).build().start();
+        TnpClient client = new TnpClient.Builder()
+                .siteId(SITE_ID)
+                .emailId("user@example.com")
+                .accessKey("access-key")
+                .baseUri(emulator.getBaseUri())
+                .build();
+
+        // when
+        TokenResponse response = client.getAuthToken();
+
+        // then
+        assertThat(response.getToken()).startsWith("emulator-");
+        assertThat(response.getExpiresIn()).isEqualTo(600L);
+        assertThat(emulator.getRequestCount(ApiUrl.AUTH_TOKEN)).isEqualTo(1);
+    }
+
+    private TnpEmulator.Builder emulatorBuilder() {
+        return new TnpEmulator.Builder()
+                .queueTime(ONE_SECOND)
+                .transcodeTime(ONE_SECOND)
+                .packageTime(ONE_SECOND)
+                .seed(42)
+                .nanoClock(nanoTime::get);
+    }
+
+    private TnpClient clientOf(TnpEmulator.Builder builder) {
+        emulator = builder.build().start();
+        return new TnpClient.Builder()
+                .siteId(SITE_ID)
+                .authToken("valid-token")
+                .baseUri(emulator.getBaseUri())
+                .retryPolicy(RetryPolicy.none())
+                .build();
+    }
+
+    private Job buildJob() {
+        return new Job.Builder()
+                .jobName("job_name")
+                .contentId("content_001")
+                .input(new Input.Builder()
+                        .storageId("storage-002")
+                        .files(List.of(new InputFile.Builder()
+                                .fileType(FileType.VIDEO)
+                                .filePath("input.mp4")
+                                .build()))
+                        .build())
+                .output(new Output.Builder()
+                        .storageId("storage-001")
+                        .path("/output/path")
+                        .transcodings(List.of(new VideoTranscoding.Builder()
+                                .trackId("video_1")
+                                .trackType(FileType.VIDEO)
+                                .codec("h264")
+                                .height(1080)
+                                .width(1920)
+                                .bitrate(3000)
+                                .build()))
+                        .packaging(new Packaging.Builder().dash(true).build())
+                        .build())
+                .build();
+    }
+}
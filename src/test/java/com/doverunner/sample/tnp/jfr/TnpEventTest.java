@@ -0,0 +1,88 @@
+package com.doverunner.sample.tnp.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.client.TnpClient;
+import com.doverunner.sample.tnp.job.Job;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TnpEventTest {
+
+    @Test
+    @DisplayName("Job 생성 시 jobName과 contentId, 검증 결과를 담은 JobBuild 이벤트를 기록해야 한다.")
+    void build_should_record_job_build_event() throws IOException {
+        // when
+        List<RecordedEvent> events = record("com.doverunner.tnp.JobBuild", () -> catchThrowable(() ->
+                new Job.Builder().jobName("job_name").contentId("content_001").build()));
+
+        // then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("jobName")).isEqualTo("job_name");
+        assertThat(events.get(0).getString("contentId")).isEqualTo("content_001");
+        assertThat(events.get(0).getBoolean("valid")).isFalse();
+    }
+
+    @Test
+    @DisplayName("API 호출마다 엔드포인트와 Job ID, 상태 코드를 담은 HttpCall 이벤트를 기록해야 한다.")
+    void client_should_record_http_call_event() throws IOException {
+        // given
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "{\"status\":\"QUEUED\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        TnpClient client = new TnpClient.Builder()
+                .siteId("TEST")
+                .authToken("valid-token")
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .build();
+
+        // when
+        List<RecordedEvent> events;
+        try {
+            events = record("com.doverunner.tnp.HttpCall", () -> client.getJobDetail("777"));
+        } finally {
+            server.stop(0);
+        }
+
+        // then
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("endpoint")).isEqualTo("GET_JOB_DETAIL");
+        assertThat(events.get(0).getString("jobId")).isEqualTo("777");
+        assertThat(events.get(0).getInt("statusCode")).isEqualTo(200);
+        assertThat(events.get(0).getDuration().toNanos()).isGreaterThanOrEqualTo(events.get(0).getLong("headersTime"));
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws IOException {
+        Path file = Files.createTempFile("tnp-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.doverunner.sample.tnp.job;
+
+import static com.doverunner.sample.tnp.exception.ErrorCode.INVALID_VALUE;
+import static com.doverunner.sample.tnp.exception.ErrorCode.MISSING_REQUIRED_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.input.Input;
+import com.doverunner.sample.tnp.job.input.InputFile;
+import com.doverunner.sample.tnp.job.output.Output;
+import com.doverunner.sample.tnp.job.output.drm.Drm;
+import com.doverunner.sample.tnp.job.output.packaging.Packaging;
+import com.doverunner.sample.tnp.job.output.transcoding.VideoTranscoding;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JobTemplateTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Output output = buildOutput();
+
+    @Test
+    @DisplayName("템플릿으로 만든 Job은 일반 Job과 동일한 JSON으로 직렬화되어야 한다.")
+    void bodyOf_should_write_same_json_as_job() throws Exception {
+        // given
+        JobTemplate template = new JobTemplate.Builder().output(output).mapper(mapper).build();
+        Input input = buildInput("movies/a.mp4", false);
+
+        // when
+        Job templated = template.newJob("job_a", "content_a", input);
+
+        // then
+        Job plain = new Job.Builder()
+                .jobName("job_a")
+                .contentId("content_a")
+                .input(input)
+                .output(output)
+                .build();
+        assertThat(mapper.writeValueAsString(template.bodyOf(templated))).isEqualTo(mapper.writeValueAsString(plain));
+        assertThat(mapper.writeValueAsString(templated)).isEqualTo(mapper.writeValueAsString(plain));
+        assertThat(templated.getTemplate()).isSameAs(template);
+    }
+
+    @Test
+    @DisplayName("Output은 템플릿을 만들 때 한 번만 직렬화되어야 한다.")
+    void build_should_serialize_output_once() throws Exception {
+        // when
+        JobTemplate template = new JobTemplate.Builder().output(output).mapper(mapper).build();
+
+        // then
+        assertThat(template.getOutputJson()).isEqualTo(mapper.writeValueAsString(output));
+    }
+
+    @Test
+    @DisplayName("입력의 오디오 정보가 템플릿 Output과 맞지 않으면 예외가 발생해야 한다.")
+    void newJob_should_validate_audio_info_against_template() {
+        // given
+        JobTemplate template = new JobTemplate.Builder().output(output).build();
+
+        // when
+        Throwable throwable = catchThrowable(() -> template.newJob("job_a", "content_a",
+                buildInput("movies/a.mp4", true)));
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(MISSING_REQUIRED_VALUE);
+    }
+
+    @Test
+    @DisplayName("다른 템플릿으로 만든 Job을 직렬화하려 하면 예외가 발생해야 한다.")
+    void bodyOf_should_reject_foreign_job() {
+        // given
+        JobTemplate template = new JobTemplate.Builder().output(output).build();
+        Job foreign = new JobTemplate.Builder().output(output).build()
+                .newJob("job_a", "content_a", buildInput("movies/a.mp4", false));
+
+        // when
+        Throwable throwable = catchThrowable(() -> template.bodyOf(foreign));
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(INVALID_VALUE);
+    }
+
+    @Test
+    @DisplayName("output이 없으면 템플릿 생성 시 예외가 발생해야 한다.")
+    void build_should_throw_when_output_is_missing() {
+        // when
+        Throwable throwable = catchThrowable(() -> new JobTemplate.Builder().build());
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(MISSING_REQUIRED_VALUE);
+    }
+
+    private Input buildInput(String filePath, boolean withAudio) {
+        return new Input.Builder()
+                .storageId("storage-002")
+                .files(List.of(new InputFile.Builder()
+                        .fileType(withAudio ? FileType.MULTI : FileType.VIDEO)
+                        .filePath(filePath)
+                        .build()))
+                .build();
+    }
+
+    private Output buildOutput() {
+        return new Output.Builder()
+                .storageId("storage-001")
+                .path("/output/path")
+                .transcodings(List.of(new VideoTranscoding.Builder()
+                        .trackId("video_1")
+                        .trackType(FileType.VIDEO)
+                        .codec("h264")
+                        .height(1080)
+                        .width(1920)
+                        .bitrate(3000)
+                        .build()))
+                .packaging(new Packaging.Builder().dash(true).build())
+                .drm(new Drm.Builder().enabled(true).build())
+                .build();
+    }
+}
@@ -1,11 +1,14 @@
 package com.doverunner.sample.tnp.job;
 
+import static com.doverunner.sample.tnp.exception.ErrorCode.INVALID_VALUE;
 import static com.doverunner.sample.tnp.exception.ErrorCode.MISSING_REQUIRED_VALUE;
 import static com.doverunner.sample.tnp.job.Job.Builder;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
 import com.doverunner.sample.tnp.job.output.transcoding.VideoTranscoding;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.doverunner.sample.tnp.exception.TnpCustomException;
 import com.doverunner.sample.tnp.job.input.Audio;
@@ -18,6 +21,8 @@ import com.doverunner.sample.tnp.job.output.Output;
 import com.doverunner.sample.tnp.job.output.packaging.Packaging;
 import com.doverunner.sample.tnp.job.output.packaging.PackagingOption;
 import com.doverunner.sample.tnp.job.output.packaging.SubtitleFormat;
+import com.doverunner.sample.tnp.job.output.ForensicWatermarking;
+import com.doverunner.sample.tnp.job.output.transcoding.AudioTranscoding;
 import com.doverunner.sample.tnp.job.output.transcoding.Transcoding;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -146,6 +151,100 @@ class JobTest {
         }
     }
 
+    @Nested
+    @DisplayName("JSON 역직렬화 케이스")
+    class JobDeserializationTest {
+
+        @Test
+        @DisplayName("직렬화한 Job JSON을 다시 읽으면 같은 Job과 같은 JSON이 되어야 한다.")
+        void readValue_should_round_trip_job() throws Exception {
+            // given
+            Job job = buildAudioJob();
+            String json = mapper.writeValueAsString(job);
+
+            // when
+            Job actual = mapper.readValue(json, Job.class);
+
+            // then
+            assertThat(actual.getOutput()).isEqualTo(job.getOutput());
+            assertThat(actual.getOutput().getTranscodings())
+                    .hasExactlyElementsOfTypes(VideoTranscoding.class, AudioTranscoding.class);
+            assertThat(mapper.writeValueAsString(actual)).isEqualTo(json);
+        }
+
+        @Test
+        @DisplayName("역직렬화할 때도 Builder 검증이 적용되어야 한다.")
+        void readValue_should_run_builder_validation() {
+            // given
+            String json = """
+                    {"track_id":"video_1","track_type":"video","codec":"h264","height":1081,"width":1920,"bitrate":3000}""";
+
+            // when
+            Throwable throwable = catchThrowable(() -> mapper.readValue(json, Transcoding.class));
+
+            // then
+            assertThat(throwable).isInstanceOf(JsonMappingException.class);
+            assertThat(throwable.getCause()).isExactlyInstanceOf(TnpCustomException.class);
+            assertThat(((TnpCustomException) throwable.getCause()).getErrorCode()).isEqualTo(INVALID_VALUE);
+        }
+
+        @Test
+        @DisplayName("한 줄에 하나씩 저장된 Job JSON을 순서대로 읽을 수 있어야 한다.")
+        void readValues_should_stream_json_lines() throws Exception {
+            // given
+            String jsonLines = mapper.writeValueAsString(buildAudioJob()) + "\n"
+                    + mapper.writeValueAsString(new Builder()
+                    .jobName("job_name_2")
+                    .contentId("content_002")
+                    .input(input)
+                    .output(output)
+                    .build()) + "\n";
+
+            // when
+            List<Job> jobs;
+            try (MappingIterator<Job> iterator = mapper.readerFor(Job.class).readValues(jsonLines)) {
+                jobs = iterator.readAll();
+            }
+
+            // then
+            assertThat(jobs).extracting(Job::getContentId).containsExactly("content_001", "content_002");
+        }
+
+        private Job buildAudioJob() {
+            return new Builder()
+                    .jobName("job_name")
+                    .contentId("content_001")
+                    .input(new Input.Builder()
+                            .storageId("storage-002")
+                            .files(List.of(new InputFile.Builder()
+                                    .fileType(FileType.MULTI)
+                                    .filePath("input.mp4")
+                                    .audios(buildAudios())
+                                    .build()))
+                            .subtitles(buildSubtitles())
+                            .build())
+                    .output(new Output.Builder()
+                            .storageId("storage-001")
+                            .path("/output/path")
+                            .defaultLanguage("eng")
+                            .transcodings(List.of(
+                                    buildTranscodings().get(0),
+                                    new AudioTranscoding.Builder()
+                                            .trackId("audio_1")
+                                            .trackType(FileType.AUDIO)
+                                            .codec("aac")
+                                            .language("eng")
+                                            .sources(List.of(new Track(1)))
+                                            .build()))
+                            .packaging(buildPackaging())
+                            .drm(buildDrm())
+                            .forensicWatermarking(new ForensicWatermarking(true))
+                            .jobNotiId(7)
+                            .build())
+                    .build();
+        }
+    }
+
     @Nested
     @DisplayName("필수 필드 누락 케이스")
     class RequiredFieldValidationTest {
@@ -0,0 +1,105 @@
+package com.doverunner.sample.tnp.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.exception.ErrorCode;
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.output.Output;
+import com.doverunner.sample.tnp.job.output.packaging.Packaging;
+import com.doverunner.sample.tnp.job.output.transcoding.Transcoding;
+import com.doverunner.sample.tnp.job.output.transcoding.VideoTranscoding;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ModelInternerTest {
+
+    @Test
+    @DisplayName("값이 같은 Output은 처음 등록된 인스턴스로 공유되어야 한다.")
+    void intern_should_share_equal_outputs() {
+        // given
+        ModelInterner interner = new ModelInterner.Builder().build();
+        Output first = buildOutput(1080);
+        Output second = buildOutput(1080);
+
+        // when
+        Output internedFirst = interner.intern(first);
+        Output internedSecond = interner.intern(second);
+
+        // then
+        assertThat(second).isEqualTo(first).hasSameHashCodeAs(first);
+        assertThat(internedFirst).isSameAs(first);
+        assertThat(internedSecond).isSameAs(first);
+        assertThat(interner.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("값이 다른 Transcoding은 각각 별도로 등록되어야 한다.")
+    void intern_should_keep_distinct_values_apart() {
+        // given
+        ModelInterner interner = new ModelInterner.Builder().build();
+        Transcoding fullHd = buildTranscoding(1080);
+        Transcoding hd = buildTranscoding(720);
+
+        // when
+        Transcoding internedFullHd = interner.intern(fullHd);
+        Transcoding internedHd = interner.intern(hd);
+
+        // then
+        assertThat(internedFullHd).isSameAs(fullHd);
+        assertThat(internedHd).isSameAs(hd);
+        assertThat(interner.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("maxSize에 도달하면 새 값은 등록하지 않고 그대로 반환해야 한다.")
+    void intern_should_stop_pooling_at_max_size() {
+        // given
+        ModelInterner interner = new ModelInterner.Builder().maxSize(1).build();
+        interner.intern(buildTranscoding(1080));
+        Transcoding hd = buildTranscoding(720);
+
+        // when
+        Transcoding interned = interner.intern(hd);
+
+        // then
+        assertThat(interned).isSameAs(hd);
+        assertThat(interner.intern(buildTranscoding(720))).isNotSameAs(hd);
+        assertThat(interner.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("maxSize가 1보다 작으면 OUT_OF_RANGE_VALUE 예외가 발생해야 한다.")
+    void build_should_reject_non_positive_max_size() {
+        // given
+        ModelInterner.Builder builder = new ModelInterner.Builder().maxSize(0);
+
+        // when
+        Throwable throwable = catchThrowable(builder::build);
+
+        // then
+        assertThat(throwable).isInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(ErrorCode.OUT_OF_RANGE_VALUE);
+    }
+
+    private Output buildOutput(int height) {
+        return new Output.Builder()
+                .storageId("storage-001")
+                .path("/output/path")
+                .transcodings(List.of(buildTranscoding(height)))
+                .packaging(new Packaging.Builder().dash(true).build())
+                .build();
+    }
+
+    private Transcoding buildTranscoding(int height) {
+        return new VideoTranscoding.Builder()
+                .trackId("video_" + height)
+                .trackType(FileType.VIDEO)
+                .codec("h264")
+                .height(height)
+                .width(height * 16 / 9 / 2 * 2)
+                .bitrate(3000)
+                .build();
+    }
+}
@@ -207,6 +207,29 @@ class OutputTest {
             logger.debug(mapper.writeValueAsString(ex));
         }
 
+        @Test
+        @DisplayName("transcodings에 null을 지정하면 MISSING_REQUIRED_VALUE 예외가 발생해야 한다.")
+        void build_should_throw_exception_when_transcodings_is_null() {
+            // when
+            Throwable throwable = catchThrowable(() -> {
+                new Builder()
+                        .storageId("storage-001")
+                        .path("/output/path")
+                        .transcodings(null)
+                        .packaging(packaging)
+                        .build();
+            });
+            Throwable fromJson = catchThrowable(() -> mapper.readValue("""
+                    {"storage_id":"storage-001","path":"/output/path","transcodings":null,"packaging":{"dash":true}}""",
+                    Output.class));
+
+            // then
+            assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+            assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(MISSING_REQUIRED_VALUE);
+            assertThat(fromJson.getCause()).isExactlyInstanceOf(TnpCustomException.class);
+            assertThat(((TnpCustomException) fromJson.getCause()).getErrorCode()).isEqualTo(MISSING_REQUIRED_VALUE);
+        }
+
         @Test
         @DisplayName("packaging이 없으면 예외가 발생해야 한다.")
         void build_should_throw_exception_when_packaging_is_missing() throws Exception {
@@ -4,11 +4,14 @@ import static com.doverunner.sample.tnp.exception.ErrorCode.INVALID_VALUE;
 import static com.doverunner.sample.tnp.exception.ErrorCode.MISSING_REQUIRED_VALUE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.doverunner.sample.tnp.exception.TnpCustomException;
 import com.doverunner.sample.tnp.job.FileType;
 import com.doverunner.sample.tnp.job.Track;
 import com.doverunner.sample.tnp.job.output.transcoding.VideoTranscoding.Builder;
+import com.doverunner.sample.tnp.validation.ValidationResult;
+import com.doverunner.sample.tnp.validation.Violation;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -266,4 +269,27 @@ class TranscodingTest {
 
         logger.debug(mapper.writeValueAsString(ex));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("validate는 예외 없이 모든 위반 사항을 필드 경로와 함께 반환해야 한다.")
+    void validate_should_collect_all_violations() {
+        // given
+        Builder builder = new Builder()
+                .trackType(validTrackType)
+                .height(1081)
+                .width(validWidth);
+
+        // when
+        ValidationResult result = builder.validate();
+
+        // then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getViolations())
+                .extracting(Violation::getPath, Violation::getErrorCode)
+                .containsExactly(
+                        tuple("height", INVALID_VALUE),
+                        tuple("bitrate", MISSING_REQUIRED_VALUE),
+                        tuple("trackId", MISSING_REQUIRED_VALUE),
+                        tuple("codec", MISSING_REQUIRED_VALUE));
+    }
+}
@@ -0,0 +1,240 @@
+package com.doverunner.sample.tnp.validation;
+
+import static com.doverunner.sample.tnp.exception.ErrorCode.INVALID_VALUE;
+import static com.doverunner.sample.tnp.exception.ErrorCode.MISSING_REQUIRED_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.FileType;
+import com.doverunner.sample.tnp.job.Job;
+import com.doverunner.sample.tnp.job.Track;
+import com.doverunner.sample.tnp.job.input.Audio;
+import com.doverunner.sample.tnp.job.input.Input;
+import com.doverunner.sample.tnp.job.input.InputFile;
+import com.doverunner.sample.tnp.job.input.Subtitle;
+import com.doverunner.sample.tnp.job.output.Output;
+import com.doverunner.sample.tnp.job.output.drm.Drm;
+import com.doverunner.sample.tnp.job.output.drm.DrmOption;
+import com.doverunner.sample.tnp.job.output.packaging.Packaging;
+import com.doverunner.sample.tnp.job.output.packaging.PackagingOption;
+import com.doverunner.sample.tnp.job.output.packaging.SubtitleFormat;
+import com.doverunner.sample.tnp.job.output.transcoding.AudioTranscoding;
+import com.doverunner.sample.tnp.job.output.transcoding.Transcoding;
+import com.doverunner.sample.tnp.job.output.transcoding.VideoTranscoding;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PreflightValidatorTest {
+
+    private final PreflightValidator validator = new PreflightValidator.Builder().build();
+
+    @Test
+    @DisplayName("교차 검증 규칙을 모두 만족하면 valid 결과를 반환해야 한다.")
+    void validate_should_pass_consistent_job() {
+        // given
+        Job job = buildJob(buildOutput().build());
+
+        // when
+        ValidationResult result = validator.validate(job);
+
+        // then
+        assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("설정된 DRM 높이 구간이 오름차순이 아니면 위반으로 보고해야 한다.")
+    void validate_should_report_drm_height_tiers() {
+        // given
+        Output output = buildOutput()
+                .drm(buildDrm(720, 480, 480))
+                .build();
+
+        // when
+        ValidationResult result = validator.validate(buildJob(output));
+
+        // then
+        assertThat(result.getViolations())
+                .extracting(Violation::getPath, Violation::getErrorCode)
+                .containsExactly(
+                        tuple("output.drm.option.maxHdHeight", INVALID_VALUE),
+                        tuple("output.drm.option.maxUhd1Height", INVALID_VALUE));
+    }
+
+    @Test
+    @DisplayName("DRM 높이 구간이 0이면 서버 기본값을 쓰므로 위반으로 보고하지 않아야 한다.")
+    void validate_should_treat_zero_drm_height_tiers_as_server_default() {
+        // given
+        Output output = buildOutput()
+                .drm(buildDrm(0, 0, 0))
+                .build();
+
+        // when
+        ValidationResult result = validator.validate(buildJob(output));
+
+        // then
+        assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("영상 높이가 UHD1 구간보다 높아도 UHD2 구간에 해당하므로 위반으로 보고하지 않아야 한다.")
+    void validate_should_pass_video_above_uhd1_tier() {
+        // given
+        Output output = buildOutput()
+                .transcodings(List.of(new VideoTranscoding.Builder()
+                        .trackId("video_4320")
+                        .trackType(FileType.VIDEO)
+                        .codec("h265")
+                        .height(4320)
+                        .width(7680)
+                        .bitrate(40000)
+                        .build(), buildAudio("kor", new Track(1))))
+                .drm(new Drm.Builder()
+                        .enabled(true)
+                        .option(new DrmOption.Builder().build())
+                        .build())
+                .build();
+
+        // when
+        ValidationResult result = validator.validate(buildJob(output));
+
+        // then
+        assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("활성화되지 않은 패키징 형식에 자막 형식을 지정하면 위반으로 보고해야 한다.")
+    void validate_should_report_subtitle_format_without_packaging() {
+        // given
+        Output output = buildOutput()
+                .packaging(new Packaging.Builder()
+                        .dash(true)
+                        .option(new PackagingOption.Builder()
+                                .subtitleFormat(new SubtitleFormat.Builder()
+                                        .dash("text.vtt")
+                                        .hls("text.vtt")
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+
+        // when
+        ValidationResult result = validator.validate(buildJob(output));
+
+        // then
+        assertThat(result.getViolations()).extracting(Violation::getPath)
+                .containsExactly("output.packaging.option.subtitleFormat.hls");
+    }
+
+    @Test
+    @DisplayName("오디오 트랜스코딩의 source가 입력 오디오의 remap 트랙이 아니면 위반으로 보고해야 한다.")
+    void validate_should_report_audio_source_without_remap() {
+        // given
+        Output output = buildOutput()
+                .transcodings(List.of(buildVideo(), buildAudio("kor", new Track(1), new Track(3))))
+                .build();
+
+        // when
+        ValidationResult result = validator.validate(buildJob(output));
+
+        // then
+        assertThat(result.getViolations())
+                .extracting(Violation::getPath, Violation::getErrorCode)
+                .containsExactly(tuple("output.transcodings[1].sources[1]", INVALID_VALUE));
+    }
+
+    @Test
+    @DisplayName("default_language가 오디오나 자막 언어와 일치하지 않으면 위반으로 보고해야 한다.")
+    void validate_should_report_unknown_default_language() {
+        // given
+        Output output = buildOutput().defaultLanguage("fra").build();
+
+        // when
+        ValidationResult result = validator.validate(buildJob(output));
+
+        // then
+        assertThat(result.getViolations()).extracting(Violation::getPath)
+                .containsExactly("output.defaultLanguage");
+    }
+
+    @Test
+    @DisplayName("기본 규칙을 끄고 규칙도 지정하지 않으면 예외가 발생해야 한다.")
+    void build_should_require_rules_when_defaults_are_disabled() {
+        // given
+        PreflightValidator.Builder builder = new PreflightValidator.Builder().defaultRules(false);
+
+        // when
+        Throwable throwable = catchThrowable(builder::build);
+
+        // then
+        assertThat(throwable).isInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(MISSING_REQUIRED_VALUE);
+    }
+
+    private Job buildJob(Output output) {
+        return new Job.Builder()
+                .jobName("job_name")
+                .contentId("content_001")
+                .input(new Input.Builder()
+                        .storageId("storage-002")
+                        .files(List.of(new InputFile.Builder()
+                                .fileType(FileType.MULTI)
+                                .filePath("input.mp4")
+                                .audios(List.of(new Audio.Builder()
+                                        .in(new Track(0))
+                                        .remap(new Track(1))
+                                        .build()))
+                                .build()))
+                        .subtitles(List.of(new Subtitle.Builder()
+                                .filePath("subtitle_eng.vtt")
+                                .language("eng")
+                                .build()))
+                        .build())
+                .output(output)
+                .build();
+    }
+
+    private Drm buildDrm(int maxSdHeight, int maxHdHeight, int maxUhd1Height) {
+        return new Drm.Builder()
+                .enabled(true)
+                .option(new DrmOption.Builder()
+                        .multiKey(false)
+                        .maxSdHeight(maxSdHeight)
+                        .maxHdHeight(maxHdHeight)
+                        .maxUhd1Height(maxUhd1Height)
+                        .build())
+                .build();
+    }
+
+    private Output.Builder buildOutput() {
+        return new Output.Builder()
+                .storageId("storage-001")
+                .path("/output/path")
+                .defaultLanguage("kor")
+                .transcodings(List.of(buildVideo(), buildAudio("kor", new Track(1))))
+                .packaging(new Packaging.Builder().dash(true).build());
+    }
+
+    private Transcoding buildVideo() {
+        return new VideoTranscoding.Builder()
+                .trackId("video_1")
+                .trackType(FileType.VIDEO)
+                .codec("h264")
+                .height(1080)
+                .width(1920)
+                .bitrate(3000)
+                .build();
+    }
+
+    private Transcoding buildAudio(String language, Track... sources) {
+        return new AudioTranscoding.Builder()
+                .trackId("audio_" + language)
+                .trackType(FileType.AUDIO)
+                .codec("aac")
+                .language(language)
+                .sources(List.of(sources))
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.doverunner.sample.tnp.validation;
+
+import static com.doverunner.sample.tnp.exception.ErrorCode.INVALID_VALUE;
+import static com.doverunner.sample.tnp.exception.ErrorCode.MISSING_REQUIRED_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.doverunner.sample.tnp.exception.TnpCustomException;
+import com.doverunner.sample.tnp.job.output.packaging.Packaging;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ValidationResultTest {
+
+    @Test
+    @DisplayName("위반 사항이 없으면 공유된 valid 결과를 반환해야 한다.")
+    void build_should_return_shared_valid_result() {
+        // when
+        ValidationResult result = new ValidationResult.Builder().build();
+
+        // then
+        assertThat(result).isSameAs(ValidationResult.valid());
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getViolations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("withPrefix는 모든 위반 사항의 경로 앞에 접두어를 붙여야 한다.")
+    void withPrefix_should_prefix_paths() {
+        // given
+        ValidationResult result = new ValidationResult.Builder()
+                .add("height", INVALID_VALUE, "odd height")
+                .add("codec", MISSING_REQUIRED_VALUE, "missing codec")
+                .build();
+
+        // when
+        ValidationResult prefixed = result.withPrefix("output.transcodings[2]");
+
+        // then
+        assertThat(prefixed.getViolations()).extracting(Violation::getPath)
+                .containsExactly("output.transcodings[2].height", "output.transcodings[2].codec");
+    }
+
+    @Test
+    @DisplayName("throwIfInvalid는 첫 번째 위반 사항을 스택 트레이스 없는 예외로 던져야 한다.")
+    void throwIfInvalid_should_throw_first_violation_without_stack_trace() {
+        // given
+        ValidationResult result = new Packaging.Builder().validate();
+
+        // when
+        Throwable throwable = catchThrowable(result::throwIfInvalid);
+
+        // then
+        assertThat(throwable).isExactlyInstanceOf(TnpCustomException.class);
+        assertThat(((TnpCustomException) throwable).getErrorCode()).isEqualTo(MISSING_REQUIRED_VALUE);
+        assertThat(((TnpCustomException) throwable).getDetailMessage())
+                .isEqualTo(result.getViolations().get(0).getMessage());
+        assertThat(throwable.getStackTrace()).isEmpty();
+    }
+}